@@ -11,6 +11,8 @@
 package lsafer.io;
 
 import lsafer.json.JSON;
+import lsafer.json.JSONByteDecoder;
+import lsafer.json.JSONReader;
 import lsafer.util.Arrays;
 import lsafer.util.Loop;
 import lsafer.util.StringParser;
@@ -19,6 +21,10 @@ import lsafer.util.Strings;
 import java.io.*;
 import java.net.URI;
 import java.net.URLConnection;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
@@ -29,7 +35,7 @@ import static lsafer.io.FileException.*;
  * A {@link java.io.File} with useful tools.
  *
  * @author LSaferSE
- * @version 10 release (03-Nov-2019)
+ * @version 11 release (17-Oct-2026)
  * @since 18 May 2019
  */
 public class File extends java.io.File {
@@ -284,7 +290,7 @@ public class File extends java.io.File {
 			synchronizer.handle(this.isDirectory(), IS_DIRECTORY, this) <= PROCESS_FAILED)
 			return;
 
-		try (FileWriter fw = new FileWriter(this)) {
+		try (Writer fw = new OutputStreamWriter(new FileOutputStream(this, true), StandardCharsets.UTF_8)) {
 			//<editor-fold desc="synchronizer.bind()">
 			this.setMaxProgress(1L);
 			this.setProgress(0L);
@@ -317,7 +323,28 @@ public class File extends java.io.File {
 	 * @param synchronizer used for: a-creating long loops b-pass information c-report exceptions
 	 */
 	public void append(Synchronizer<?, ?> synchronizer, StringParser parser, Object value) {
-		this.append(synchronizer, parser.stringify(value));
+		java.io.File parent = this.parent();
+
+		if (synchronizer.handle(!parent.isDirectory(), NOT_DIRECTORY, parent) <= PROCESS_FAILED ||
+			synchronizer.handle(this.isDirectory(), IS_DIRECTORY, this) <= PROCESS_FAILED)
+			return;
+
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(this, true), StandardCharsets.UTF_8), synchronizer.byteBufferSize)) {
+			//<editor-fold desc="synchronizer.bind()">
+			this.setMaxProgress(1L);
+			this.setProgress(0L);
+			synchronizer.out(this);
+			synchronizer.bind();
+			//</editor-fold>
+			parser.write(writer, value);
+			//<editor-fold desc="synchronizer.bind()">
+			this.progressed();
+			synchronizer.bind();
+			//</editor-fold>
+		} catch (IOException e) {
+			if (synchronizer.handle(CANT_WRITE, this) >= PROCESS_CONTINUED)
+				this.append(synchronizer, parser, value);
+		}
 	}
 
 	/**
@@ -686,6 +713,36 @@ public class File extends java.io.File {
 		return junior;
 	}
 
+	/**
+	 * Map the content of this file into the memory as a read-only buffer. The content is loaded lazily by the operating system. So big files can
+	 * be read without copying them into the java heap.
+	 *
+	 * <ul>
+	 *     Exception may applied to the catcher:
+	 *     <li>{@link FileException#NOT_EXIST} this file not exist.</li>
+	 *     <li>{@link FileException#IS_DIRECTORY} this file is a directory.</li>
+	 *     <li>{@link IOException} If an I/O error occurs< /li>
+	 *     <li>{@link IllegalArgumentException} If this file is larger than {@link Integer#MAX_VALUE} bytes</li>
+	 * </ul>
+	 *
+	 * @param synchronizer used for: a-creating long loops b-pass information c-report exceptions
+	 * @return a read-only buffer mapped to the content of this file. Or null in case of exceptions
+	 */
+	public MappedByteBuffer map(Synchronizer<?, ?> synchronizer) {
+		if (synchronizer.handle(!this.exists(), NOT_EXIST, this) <= PROCESS_FAILED ||
+			synchronizer.handle(this.isDirectory(), IS_DIRECTORY, this) <= PROCESS_FAILED)
+			return null;
+
+		try (FileChannel channel = FileChannel.open(this.toPath(), StandardOpenOption.READ)) {
+			//the mapping stays valid after the channel is closed
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException | IllegalArgumentException e) {
+			if (synchronizer.handle(e.getClass().getName(), e, this) >= PROCESS_CONTINUED)
+				return this.map(synchronizer);
+			return null;
+		}
+	}
+
 	/**
 	 * Move this file to the given destination.
 	 *
@@ -860,6 +917,93 @@ public class File extends java.io.File {
 		return klass.isInstance(object) ? (T) object : null;
 	}
 
+	/**
+	 * Read this file's JSON content through a {@link JSONReader}. Without loading the whole text of this file to the memory.
+	 *
+	 * <ul>
+	 *     Exception may applied to the catcher:
+	 *     <li>{@link FileException#NOT_EXIST} this file not exist.</li>
+	 *     <li>{@link FileException#IS_DIRECTORY} this file is a directory.</li>
+	 *     <li>{@link IOException} If an I/O error occurs. Or the content of this file is a malformed JSON text</li>
+	 * </ul>
+	 *
+	 * @param json         the parser to be used to parse unquoted tokens
+	 * @param klass        to make sure the value is instance of
+	 * @param <T>          the assumed type of the written text after parsing
+	 * @param synchronizer used for: a-creating long loops b-pass information c-report exceptions
+	 * @return value of this file parsed. Or null in case of exceptions
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T readJSON(Synchronizer<?, ?> synchronizer, JSON json, Class<? super T> klass) {
+		if (synchronizer.handle(!this.exists(), NOT_EXIST, this) <= PROCESS_FAILED ||
+			synchronizer.handle(this.isDirectory(), IS_DIRECTORY, this) <= PROCESS_FAILED)
+			return null;
+
+		try (JSONReader reader = new JSONReader(json, new InputStreamReader(new FileInputStream(this), StandardCharsets.UTF_8), synchronizer.byteBufferSize)) {
+			//<editor-fold desc="synchronizer.bind()">
+			this.setMaxProgress(1L);
+			this.setProgress(0L);
+			synchronizer.in(this);
+			synchronizer.bind();
+			//</editor-fold>
+			Object object = reader.readValue();
+			//<editor-fold desc="synchronizer.bind()">
+			this.progressed();
+			synchronizer.bind();
+			//</editor-fold>
+			return klass.isInstance(object) ? (T) object : null;
+		} catch (IOException | IllegalStateException e) {
+			if (synchronizer.handle(e.getClass().getName(), e, this) >= PROCESS_CONTINUED)
+				return this.readJSON(synchronizer, json, klass);
+			return null;
+		}
+	}
+
+	/**
+	 * Read this file's UTF-8 JSON content through a {@link JSONByteDecoder} over a {@link #map(Synchronizer) memory-mapped} buffer of this file.
+	 * Without decoding the whole text of this file into a string.
+	 *
+	 * <ul>
+	 *     Exception may applied to the catcher:
+	 *     <li>{@link FileException#NOT_EXIST} this file not exist.</li>
+	 *     <li>{@link FileException#IS_DIRECTORY} this file is a directory.</li>
+	 *     <li>{@link IOException} If an I/O error occurs< /li>
+	 *     <li>{@link RuntimeException} If the content of this file can't be parsed</li>
+	 * </ul>
+	 *
+	 * @param json         the parser to be used to parse unquoted tokens
+	 * @param klass        to make sure the value is instance of
+	 * @param <T>          the assumed type of the written text after parsing
+	 * @param synchronizer used for: a-creating long loops b-pass information c-report exceptions
+	 * @return value of this file parsed. Or null in case of exceptions
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T readMappedJSON(Synchronizer<?, ?> synchronizer, JSON json, Class<? super T> klass) {
+		MappedByteBuffer buffer = this.map(synchronizer);
+
+		if (buffer == null)
+			return null;
+
+		try {
+			//<editor-fold desc="synchronizer.bind()">
+			this.setMaxProgress(1L);
+			this.setProgress(0L);
+			synchronizer.in(this);
+			synchronizer.bind();
+			//</editor-fold>
+			Object object = json.parse(buffer);
+			//<editor-fold desc="synchronizer.bind()">
+			this.progressed();
+			synchronizer.bind();
+			//</editor-fold>
+			return klass.isInstance(object) ? (T) object : null;
+		} catch (IllegalArgumentException | IllegalStateException | IndexOutOfBoundsException e) {
+			if (synchronizer.handle(e.getClass().getName(), e, this) >= PROCESS_CONTINUED)
+				return this.readMappedJSON(synchronizer, json, klass);
+			return null;
+		}
+	}
+
 	/**
 	 * Read this file's java serial text. And transform it to the targeted class.
 	 *
@@ -1088,7 +1232,28 @@ public class File extends java.io.File {
 	 * @param synchronizer used for: a-creating long loops b-pass information c-report exceptions
 	 */
 	public void write(Synchronizer<?, ?> synchronizer, StringParser parser, Object value) {
-		this.write(synchronizer, parser.stringify(value));
+		java.io.File parent = this.parent();
+
+		if (synchronizer.handle(!parent.isDirectory(), NOT_DIRECTORY, parent) <= PROCESS_FAILED ||
+			synchronizer.handle(this.isDirectory(), IS_DIRECTORY, this) <= PROCESS_FAILED)
+			return;
+
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(this), StandardCharsets.UTF_8), synchronizer.byteBufferSize)) {
+			//<editor-fold desc="synchronizer.bind()">
+			this.setMaxProgress(1L);
+			this.setProgress(0L);
+			synchronizer.out(this);
+			synchronizer.bind();
+			//</editor-fold>
+			parser.write(writer, value);
+			//<editor-fold desc="synchronizer.bind()">
+			this.progressed();
+			synchronizer.bind();
+			//</editor-fold>
+		} catch (IOException e) {
+			if (synchronizer.handle(CANT_WRITE, this) >= PROCESS_CONTINUED)
+				this.write(synchronizer, parser, value);
+		}
 	}
 
 	/**
@@ -10,12 +10,8 @@
  */
 package lsafer.io;
 
-import lsafer.java.SERB64;
-import lsafer.json.JSON;
-import lsafer.microsoft.INI;
 import lsafer.util.Configurable;
 import lsafer.util.impl.FolderHashMap;
-import lsafer.util.impl.ParsedFileHashMap;
 
 import java.lang.annotation.*;
 import java.lang.reflect.InvocationTargetException;
@@ -34,7 +30,7 @@ import static lsafer.io.FileException.NOT_EXIST;
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
  * @author LSaferSE
- * @version 9 release (02-Nov-19)
+ * @version 10 release (17-Oct-2026)
  * @since 19-Jul-19
  */
 @FolderMap.Configurations
@@ -88,7 +84,7 @@ public interface FolderMap<K, V> extends FileMap<K, V>, Configurable {
 		if (children != null)
 			for (String child : children) {
 				V value = this.get(child);
-				map.put((K) child, (value instanceof FileMap ? value : (V) this.newInstanceFor(new File(child))));
+				map.put((K) child, (value instanceof FileMap ? value : (V) this.newInstanceFor(this.getFile().child(child))));
 				//<editor-fold desc="synchronizer.bind()">
 				this.getFile().progressed();
 				synchronizer.bind();
@@ -143,6 +139,9 @@ public interface FolderMap<K, V> extends FileMap<K, V>, Configurable {
 	 * Get a new {@link FileMap} instance for the given file. This method like an instance creator switch. To get the perfect instance class. For that
 	 * specific file given. The new instance will not be touched by this. This object will just create it (the new instance) then return it as a
 	 * results.
+	 * <br>
+	 * The format of a file is resolved using the {@link Formats} registry. (by its extension. Or by its first bytes) Files of unknown formats are
+	 * treated as JSON files.
 	 *
 	 * @param file to get a new instance for
 	 * @return a new instance for the given file
@@ -159,16 +158,10 @@ public interface FolderMap<K, V> extends FileMap<K, V>, Configurable {
 				} catch (NoSuchMethodException ignored) {
 					return configurations.folder().getConstructor().newInstance().setFile(FILE);
 				}
-			if (configurations.file() == FileMap.class)
-				switch (file.getExtension().toLowerCase()) {
-					default:
-					case "json":
-						return new ParsedFileHashMap<>(JSON.global).setFile(FILE);
-					case "ini":
-						return new ParsedFileHashMap(INI.global).setFile(FILE);
-					case "serb64":
-						return new ParsedFileHashMap(SERB64.global).setFile(FILE);
-				}
+			if (configurations.file() == FileMap.class) {
+				Format format = Formats.of(file);
+				return (format == null ? Formats.json : format).newFileMap().setFile(FILE);
+			}
 			return configurations.file().getConstructor().newInstance().setFile(FILE);
 		} catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
 			throw new RuntimeException(e);
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.io;
+
+import lsafer.util.StringParser;
+import lsafer.util.impl.ParsedFileHashMap;
+
+/**
+ * A file format. That tells what files it's for (by their extensions or by their first bytes). And what parser to be used to read them.
+ * <br>
+ * Formats can be plugged in using {@link Formats#register(Format)}. Or as a service provider (a line with the name of the implementation class
+ * in "META-INF/services/lsafer.io.Format").
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public interface Format {
+	/**
+	 * Get the extensions of the files of this format.
+	 *
+	 * @return the extensions (lower case. Without the dot) of the files of this format
+	 */
+	String[] extensions();
+
+	/**
+	 * Get a new file-map for a file of this format.
+	 *
+	 * @param <K> the type of the keys of the file-map
+	 * @param <V> the type of the values of the file-map
+	 * @return a new file-map that reads its file using the parser of this format
+	 */
+	default <K, V> FileMap<K, V> newFileMap() {
+		return new ParsedFileHashMap<>(this.parser());
+	}
+
+	/**
+	 * Get the parser to be used to read/write the files of this format.
+	 *
+	 * @return the parser of this format
+	 */
+	StringParser parser();
+
+	/**
+	 * Check if the given first bytes of a file are of this format. (used when the file has no known extension)
+	 *
+	 * @param head   the first bytes of the file
+	 * @param length the number of the bytes read into the given array
+	 * @return whether the given bytes are of this format or not
+	 */
+	default boolean sniff(byte[] head, int length) {
+		return false;
+	}
+}
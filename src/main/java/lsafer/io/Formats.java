@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.io;
+
+import lsafer.java.SERB64;
+import lsafer.json.JSON;
+import lsafer.microsoft.INI;
+import lsafer.util.StringParser;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * The registry of the {@link Format file formats}. The formats are resolved by the extensions of the files. Or by sniffing the first bytes of the
+ * files that have no known extension. The built-in formats are {@link #serb64}, {@link #ini} and {@link #json} (the fallback). The
+ * {@link ServiceLoader service providers} of {@link Format} are loaded once. And take precedence over the built-in formats.
+ * <p>
+ * Note: this is safe to be used by multiple threads. (the tables are replaced, not modified, when a format is registered)
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+final public class Formats {
+	/**
+	 * The number of the first bytes of a file to be sniffed.
+	 */
+	final public static int HEAD = 256;
+
+	/**
+	 * INI texts. Sniffed by a first line that is a property ("key=value"). Or a section header ("[name]") followed by a property. (a section
+	 * header alone can be a JSON array. Like "[1]")
+	 */
+	final public static Format ini = new Format() {
+		@Override
+		public String[] extensions() {
+			return new String[]{"ini"};
+		}
+
+		@Override
+		public StringParser parser() {
+			return INI.global;
+		}
+
+		@Override
+		public boolean sniff(byte[] head, int length) {
+			int start = Formats.skipWhitespace(head, 0, length), next = Formats.lineEnd(head, start, length), end = next;
+
+			while (end > start && (head[end - 1] == ' ' || head[end - 1] == '\t'))
+				end--;
+
+			if (end - start < 3)
+				return false;
+			if (head[start] != '[')
+				return Formats.property(head, start, end);
+			if (head[end - 1] != ']' || !Formats.plain(head, start + 1, end - 1))
+				return false;
+
+			start = Formats.skipWhitespace(head, next, length);
+			return Formats.property(head, start, Formats.lineEnd(head, start, length));
+		}
+	};
+	/**
+	 * JSON texts. Sniffed by a first character that is a curly or a square bracket.
+	 */
+	final public static Format json = new Format() {
+		@Override
+		public String[] extensions() {
+			return new String[]{"json"};
+		}
+
+		@Override
+		public StringParser parser() {
+			return JSON.global;
+		}
+
+		@Override
+		public boolean sniff(byte[] head, int length) {
+			int start = Formats.skipWhitespace(head, 0, length);
+			return start < length && (head[start] == '{' || head[start] == '[');
+		}
+	};
+	/**
+	 * Serialized objects (encoded with base64). Sniffed by the base64 of the java serialization magic number (0xACED).
+	 */
+	final public static Format serb64 = new Format() {
+		@Override
+		public String[] extensions() {
+			return new String[]{"serb64"};
+		}
+
+		@Override
+		public StringParser parser() {
+			return SERB64.global;
+		}
+
+		@Override
+		public boolean sniff(byte[] head, int length) {
+			return length >= 3 && head[0] == 'r' && head[1] == 'O' && head[2] == '0';
+		}
+	};
+
+	/**
+	 * The static field 'global' of the parser classes. (solved once for each class)
+	 */
+	final private static ClassValue<StringParser> globals = new ClassValue<StringParser>() {
+		@Override
+		protected StringParser computeValue(Class<?> type) {
+			try {
+				return (StringParser) type.getField("global").get(null);
+			} catch (IllegalAccessException | NoSuchFieldException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	};
+
+	/**
+	 * The formats mapped to their extensions.
+	 */
+	private static volatile Map<String, Format> extensions;
+	/**
+	 * The registered formats. Ordered by their precedence.
+	 */
+	private static volatile List<Format> formats = Collections.emptyList();
+
+	static {
+		List<Format> formats = new ArrayList<>();
+
+		for (Format format : ServiceLoader.load(Format.class))
+			formats.add(format);
+
+		//serb64 and ini are more specific than json. So they are sniffed first
+		formats.add(serb64);
+		formats.add(ini);
+		formats.add(json);
+
+		Formats.set(formats);
+	}
+
+	/**
+	 * This is a util class. And shall not be instanced as an object.
+	 */
+	private Formats() {
+	}
+
+	/**
+	 * Get the format of the given file. By its extension. Or by sniffing its first bytes if its extension is not known.
+	 *
+	 * @param file to get the format of
+	 * @return the format of the given file. Or null if it's not known
+	 */
+	public static Format of(File file) {
+		Format format = Formats.extensions.get(file.getExtension().toLowerCase());
+
+		if (format != null || !file.isFile())
+			return format;
+
+		byte[] head = new byte[HEAD];
+		int length = 0;
+
+		try (InputStream stream = new FileInputStream(file)) {
+			for (int read; length < head.length && (read = stream.read(head, length, head.length - length)) != -1; )
+				length += read;
+		} catch (IOException e) {
+			return null;
+		}
+
+		return Formats.sniff(head, length);
+	}
+
+	/**
+	 * Get the format that have the given extension.
+	 *
+	 * @param extension of the format (case insensitive)
+	 * @return the format of the given extension. Or null if there is none
+	 */
+	public static Format of(String extension) {
+		return Formats.extensions.get(extension.toLowerCase());
+	}
+
+	/**
+	 * Get the global instance of the given parser class. The parser of the registered format of the given class. Or the static field 'global' of
+	 * it.
+	 *
+	 * @param klass the parser class
+	 * @return the global instance of the given parser class
+	 */
+	public static StringParser parser(Class<? extends StringParser> klass) {
+		//resolved against the live registry. So the formats registered later are seen
+		for (Format format : Formats.formats) {
+			StringParser parser = format.parser();
+
+			if (parser.getClass() == klass)
+				return parser;
+		}
+
+		return Formats.globals.get(klass);
+	}
+
+	/**
+	 * Register the given format. A registered format takes precedence over the formats registered before it. (including the built-in formats)
+	 *
+	 * @param format to be registered
+	 */
+	public static synchronized void register(Format format) {
+		List<Format> formats = new ArrayList<>(Formats.formats);
+		formats.add(0, format);
+		Formats.set(formats);
+	}
+
+	/**
+	 * Get the format of the given first bytes of a file.
+	 *
+	 * @param head   the first bytes of the file
+	 * @param length the number of the bytes read into the given array
+	 * @return the first format that recognize the given bytes. Or null if there is none
+	 */
+	public static Format sniff(byte[] head, int length) {
+		for (Format format : Formats.formats)
+			if (format.sniff(head, length))
+				return format;
+
+		return null;
+	}
+
+	/**
+	 * Get the end of the line that starts at the given index of the given bytes.
+	 *
+	 * @param bytes the bytes
+	 * @param start the start of the line
+	 * @param end   the end of the bytes
+	 * @return the index of the line break that ends the line. Or the end of the bytes if there is none
+	 */
+	private static int lineEnd(byte[] bytes, int start, int end) {
+		while (start < end && bytes[start] != '\n' && bytes[start] != '\r')
+			start++;
+
+		return start;
+	}
+
+	/**
+	 * Check if the given range of the given bytes is a plain name. (have no quotes, brackets, commas or colons)
+	 *
+	 * @param bytes the bytes
+	 * @param start the start of the range (inclusive)
+	 * @param end   the end of the range (exclusive)
+	 * @return whether the given range is a plain name or not
+	 */
+	private static boolean plain(byte[] bytes, int start, int end) {
+		for (int i = start; i < end; i++)
+			switch (bytes[i]) {
+				case '"':
+				case '\'':
+				case '[':
+				case ']':
+				case '{':
+				case '}':
+				case ',':
+				case ':':
+					return false;
+			}
+
+		return true;
+	}
+
+	/**
+	 * Check if the given range of the given bytes is a property. (a plain key followed by '=')
+	 *
+	 * @param bytes the bytes
+	 * @param start the start of the range (inclusive)
+	 * @param end   the end of the range (exclusive)
+	 * @return whether the given range is a property or not
+	 */
+	private static boolean property(byte[] bytes, int start, int end) {
+		for (int i = start; i < end; i++)
+			if (bytes[i] == '=')
+				return i > start && Formats.plain(bytes, start, i);
+
+		return false;
+	}
+
+	/**
+	 * Set the registered formats. And map them to their extensions.
+	 *
+	 * @param formats the formats (ordered by their precedence)
+	 */
+	private static void set(List<Format> formats) {
+		Map<String, Format> extensions = new HashMap<>();
+
+		for (Format format : formats)
+			for (String extension : format.extensions())
+				extensions.putIfAbsent(extension.toLowerCase(), format);
+
+		Formats.extensions = extensions;
+		Formats.formats = Collections.unmodifiableList(formats);
+	}
+
+	/**
+	 * Skip the whitespaces (and the UTF-8 byte order mark) at the given index of the given bytes.
+	 *
+	 * @param bytes to skip the whitespaces of
+	 * @param start the index to start skipping from
+	 * @param end   the end of the bytes
+	 * @return the index of the first non-whitespace byte
+	 */
+	private static int skipWhitespace(byte[] bytes, int start, int end) {
+		if (end - start >= 3 && bytes[start] == (byte) 0xEF && bytes[start + 1] == (byte) 0xBB && bytes[start + 2] == (byte) 0xBF)
+			start += 3;
+
+		while (start < end && (bytes[start] == ' ' || bytes[start] == '\t' || bytes[start] == '\n' || bytes[start] == '\r'))
+			start++;
+
+		return start;
+	}
+}
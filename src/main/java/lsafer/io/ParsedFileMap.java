@@ -15,6 +15,7 @@ import lsafer.json.JSON;
 import lsafer.util.Configurable;
 import lsafer.util.StringParser;
 
+import java.lang.annotation.*;
 import java.util.Map;
 
 /**
@@ -23,14 +24,19 @@ import java.util.Map;
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
  * @author LSaferSE
- * @version 2 release (02-Nov-2019)
+ * @version 3 release (17-Oct-2026)
  * @since 30-Oct-2019
  */
 @ParsedFileMap.Configurations
 public interface ParsedFileMap<K, V> extends FileMap<K, V>, Configurable {
 	@Override
 	default Map<K, V> read(File.Synchronizer<?, ?> synchronizer) {
-		return this.getFile().read(synchronizer, this.parser(), Map.class);
+		StringParser parser = this.parser();
+
+		if (parser instanceof JSON && this.streaming())
+			return this.getFile().readJSON(synchronizer, (JSON) parser, Map.class);
+
+		return this.getFile().read(synchronizer, parser, Map.class);
 	}
 
 	@Override
@@ -44,16 +50,25 @@ public interface ParsedFileMap<K, V> extends FileMap<K, V>, Configurable {
 	 * @return the parser of this
 	 */
 	default StringParser parser() {
-		try {
-			return (StringParser) this.configurations(Configurations.class, ParsedFileMap.class).parser().getField("global").get(null);
-		} catch (IllegalAccessException | NoSuchFieldException e) {
-			throw new RuntimeException(e);
-		}
+		return Formats.parser(this.configurations(Configurations.class, ParsedFileMap.class).parser());
+	}
+
+	/**
+	 * Get whether this should read the linked file through a {@link lsafer.json.JSONReader} (when the parser is a {@link JSON} parser). Instead of
+	 * reading the whole text of the file then parsing it.
+	 *
+	 * @return whether this should stream the linked file or not
+	 */
+	default boolean streaming() {
+		return this.configurations(Configurations.class, ParsedFileMap.class).streaming();
 	}
 
 	/**
 	 * The configurations of {@link ParsedFileMap}s.
 	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.TYPE_USE})
+	@Inherited
 	@interface Configurations {
 		/**
 		 * The parser class to be used to parse file output from the linked remote of the annotated class.
@@ -61,5 +76,13 @@ public interface ParsedFileMap<K, V> extends FileMap<K, V>, Configurable {
 		 * @return the parser class (should contain 'global' instance)
 		 */
 		Class<? extends StringParser> parser() default JSON.class;
+
+		/**
+		 * Whether the annotated map should read the linked file through a {@link lsafer.json.JSONReader}. (when the parser is a {@link JSON}
+		 * parser)
+		 *
+		 * @return whether to stream the linked file or not
+		 */
+		boolean streaming() default false;
 	}
 }
@@ -10,20 +10,24 @@
  */
 package lsafer.json;
 
-import lsafer.util.Arrays;
+import lsafer.util.Numbers;
 import lsafer.util.StringParser;
 import lsafer.util.Strings;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A text parser for JSON files.
  *
  * @author LSaferSE
- * @version 6 release (11-Oct-2019)
+ * @version 7 release (17-Oct-2026)
  * @since 09-Jul-19
  */
 @SuppressWarnings("unused")
@@ -32,6 +36,225 @@ public class JSON extends StringParser {
 	 * The global instance to avoid unnecessary instancing.
 	 */
 	final public static JSON global = new JSON();
+	/**
+	 * Whether each parser class keeps the methods that switch and parse maps, arrays, strings and characters declared by this class or not.
+	 */
+	final private static ClassValue<Boolean> decoding = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (String name : new String[]{"is_array", "is_char", "is_map", "is_string", "parse_array", "parse_char", "parse_map", "parse_string"})
+				try {
+					if (type.getMethod(name, String.class).getDeclaringClass() != JSON.class)
+						return false;
+				} catch (NoSuchMethodException e) {
+					throw new RuntimeException(e);
+				}
+
+			return true;
+		}
+	};
+	/**
+	 * Whether each parser class have switching or parsing methods other than the ones declared by this class or not. (overridden or added)
+	 */
+	final private static ClassValue<Boolean> lexing = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (Method method : type.getMethods())
+				if (JSON.foreign(method, SwitchingMethod.class) || JSON.foreign(method, ParsingMethod.class))
+					return false;
+
+			return true;
+		}
+	};
+	/**
+	 * The parameter types of the stringing methods each parser class have. Other than the ones declared by this class. (overridden or added)
+	 */
+	final private static ClassValue<Set<Class<?>>> overriding = new ClassValue<Set<Class<?>>>() {
+		@Override
+		protected Set<Class<?>> computeValue(Class<?> type) {
+			Set<Class<?>> types = new HashSet<>();
+
+			for (Method method : type.getMethods())
+				if (JSON.foreign(method, StringingMethod.class))
+					types.add(method.getParameterTypes()[0]);
+
+			return types;
+		}
+	};
+	/**
+	 * The pools used for parallel parsing. Mapped to their parallelism. (shared by all the parsers. And never shut down. Since other parse calls
+	 * may still be using them. Their idle threads terminate on their own)
+	 */
+	final private static Map<Integer, ForkJoinPool> pools = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether this parser stringifies with no whitespaces or not.
+	 */
+	final public boolean compact;
+	/**
+	 * The number of threads to parse the elements of big arrays with. (1 for sequential parsing)
+	 */
+	final public int parallelism;
+	/**
+	 * The minimum length of a JSON text to parse its array concurrently. (shorter texts are parsed sequentially)
+	 */
+	final public int threshold;
+
+	/**
+	 * Initialize this.
+	 */
+	public JSON() {
+		this(false);
+	}
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param compact whether to stringify with no whitespaces or not
+	 */
+	public JSON(boolean compact) {
+		this(compact, 1, 1 << 20);
+	}
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param compact     whether to stringify with no whitespaces or not
+	 * @param parallelism the number of threads to parse the elements of big arrays with (1 for sequential parsing)
+	 * @param threshold   the minimum length of a JSON text to parse its array concurrently
+	 * @throws IllegalArgumentException if the given parallelism is less than 1
+	 */
+	public JSON(boolean compact, int parallelism, int threshold) {
+		if (parallelism < 1)
+			throw new IllegalArgumentException("parallelism: " + parallelism);
+
+		this.compact = compact;
+		this.parallelism = parallelism;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Check if the given method is a method of the given kind that is not declared by this class. (a method added by a subclass. Or a method of
+	 * this class overridden by a subclass)
+	 *
+	 * @param method     to be checked
+	 * @param annotation the annotation of the kind of methods
+	 * @return whether the given method is a foreign method of the given kind or not
+	 */
+	private static boolean foreign(Method method, Class<? extends Annotation> annotation) {
+		if (method.getDeclaringClass() == JSON.class)
+			return false;
+		if (method.isAnnotationPresent(annotation))
+			return true;
+
+		try {
+			//an override without the annotation
+			return JSON.class.getMethod(method.getName(), method.getParameterTypes()).isAnnotationPresent(annotation);
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public Object parse(String string) {
+		//the overriding methods of maps, arrays, strings or characters are dispatched
+		if (!this.decoding())
+			return super.parse(string);
+
+		JSONDecoder decoder = new JSONDecoder(this, string);
+		return this.parallel(string) ? decoder.decode(this.pool()) : decoder.decode();
+	}
+
+	/**
+	 * Parse the UTF-8 JSON text in the given buffer (from its position to its limit). Without decoding the whole text into a string.
+	 *
+	 * @param buffer the UTF-8 bytes of the JSON text
+	 * @return an object from the given JSON text
+	 * @see JSONByteDecoder
+	 */
+	public Object parse(ByteBuffer buffer) {
+		if (!this.decoding())
+			return this.parse(StandardCharsets.UTF_8.decode(buffer).toString());
+
+		return new JSONByteDecoder(this, buffer).decode();
+	}
+
+	@Override
+	public String stringify(Object object, String shift) {
+		return this.stringify(object, shift, false);
+	}
+
+	/**
+	 * Stringify the given object using a {@link JSONWriter}.
+	 *
+	 * @param object  to stringify
+	 * @param shift   shifting string
+	 * @param builtin true, to write the given object itself without invoking the overriding stringing methods for it (its elements still do)
+	 * @return a JSON text from the given object
+	 */
+	protected String stringify(Object object, String shift, boolean builtin) {
+		StringBuilder builder = new StringBuilder();
+
+		try {
+			JSONWriter writer = new JSONWriter(this, builder, this.compact, shift);
+
+			if (builtin)
+				writer.writeValue(object);
+			else writer.write(object);
+		} catch (IOException e) {
+			//StringBuilder don't throw
+			throw new RuntimeException(e);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Get only the value addressed by the given JSON pointer (RFC 6901) in the given JSON text. Without building the subtrees that don't match
+	 * the pointer.
+	 * <br><br><b>example:</b>
+	 * <pre>
+	 *     extract("/servers/3/port", "{servers: [{}, {}, {}, {port: 80}]}") = 80
+	 * </pre>
+	 *
+	 * @param pointer the path of the value (ex. "/servers/3/port"). Or an empty string for the whole text
+	 * @param string  the JSON text
+	 * @return the addressed value. Or null if there is no value at the given pointer
+	 * @throws IllegalArgumentException if the given pointer is not empty and don't start with '/'
+	 */
+	public Object extract(String pointer, String string) {
+		return new JSONDecoder(this, string).extract(pointer);
+	}
+
+	/**
+	 * Get only the value addressed by the given JSON pointer (RFC 6901) in the JSON text of the given reader. Without reading the whole text to
+	 * the memory. And without building the subtrees that don't match the pointer.
+	 *
+	 * @param pointer the path of the value (ex. "/servers/3/port"). Or an empty string for the whole text
+	 * @param reader  to read the JSON text from (will not be closed)
+	 * @return the addressed value. Or null if there is no value at the given pointer
+	 * @throws IOException              if an I/O error occurs or the JSON text is malformed
+	 * @throws IllegalArgumentException if the given pointer is not empty and don't start with '/'
+	 */
+	public Object extract(String pointer, Reader reader) throws IOException {
+		return new JSONReader(this, reader).extract(pointer);
+	}
+
+	/**
+	 * Get only the value addressed by the given JSON pointer (RFC 6901) in the JSON text of the given file. Without reading the whole file to the
+	 * memory. And without building the subtrees that don't match the pointer.
+	 *
+	 * @param pointer the path of the value (ex. "/servers/3/port"). Or an empty string for the whole text
+	 * @param file    to read the JSON text from
+	 * @return the addressed value. Or null if there is no value at the given pointer
+	 * @throws IOException              if an I/O error occurs or the JSON text is malformed
+	 * @throws IllegalArgumentException if the given pointer is not empty and don't start with '/'
+	 */
+	public Object extract(String pointer, File file) throws IOException {
+		try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+			return this.extract(pointer, reader);
+		}
+	}
 
 	/**
 	 * Check if the given JSON text is an {@link ArrayList array} or not.
@@ -51,7 +274,7 @@ public class JSON extends StringParser {
 	 * @param string JSON text to be checked
 	 * @return whether the passed JSON text is an boolean or not
 	 */
-	@SwitchingMethod(Boolean.class)
+	@SwitchingMethod(value = Boolean.class, leading = "tf")
 	public boolean is_boolean(String string) {
 		return string.equals("true") || string.equals("false");
 	}
@@ -62,7 +285,7 @@ public class JSON extends StringParser {
 	 * @param string JSON text to be checked
 	 * @return whether the passed JSON text is a character or not
 	 */
-	@SwitchingMethod(Character.class)
+	@SwitchingMethod(value = Character.class, leading = "'")
 	public boolean is_char(String string) {
 		return string.length() == 3 && string.charAt(0) == '\'' && string.charAt(2) == '\'';
 	}
@@ -73,15 +296,9 @@ public class JSON extends StringParser {
 	 * @param string JSON text to be checked
 	 * @return whether the passed JSON text is a double or not
 	 */
-	@SwitchingMethod(Double.class)
+	@SwitchingMethod(value = Double.class, leading = Numbers.LEADING)
 	public boolean is_double(String string) {
-		try {
-			Double.valueOf(string);
-			return !string.toLowerCase().endsWith("f") &&
-				   string.contains(".");
-		} catch (Exception ignored) {
-			return false;
-		}
+		return Numbers.classify(string) == Numbers.DOUBLE;
 	}
 
 	/**
@@ -90,14 +307,9 @@ public class JSON extends StringParser {
 	 * @param string JSON text to be checked
 	 * @return whether the passed JSON text is a float or not
 	 */
-	@SwitchingMethod(Float.class)
+	@SwitchingMethod(value = Float.class, leading = Numbers.LEADING)
 	public boolean is_float(String string) {
-		try {
-			Float.valueOf(string);
-			return string.toUpperCase().endsWith("F");
-		} catch (Exception ignored) {
-			return false;
-		}
+		return Numbers.classify(string) == Numbers.FLOAT;
 	}
 
 	/**
@@ -106,16 +318,9 @@ public class JSON extends StringParser {
 	 * @param string JSON text to be checked
 	 * @return whether the passed JSON text is an integer or not
 	 */
-	@SwitchingMethod(Integer.class)
+	@SwitchingMethod(value = Integer.class, leading = Numbers.LEADING)
 	public boolean is_integer(String string) {
-		try {
-			Integer.valueOf(string);
-			return !string.endsWith("L") &&
-				   !string.endsWith("f") &&
-				   !string.contains(".");
-		} catch (Exception ignored) {
-			return false;
-		}
+		return Numbers.classify(string) == Numbers.INTEGER;
 	}
 
 	/**
@@ -124,15 +329,9 @@ public class JSON extends StringParser {
 	 * @param string JSON text to be checked
 	 * @return whether the passed JSON text is an long or not
 	 */
-	@SwitchingMethod(Long.class)
+	@SwitchingMethod(value = Long.class, leading = Numbers.LEADING)
 	public boolean is_long(String string) {
-		try {
-			Long.valueOf(string);
-			return string.toUpperCase().endsWith("L") &&
-				   !string.contains(".");
-		} catch (Exception ignored) {
-			return false;
-		}
+		return Numbers.classify(string) == Numbers.LONG;
 	}
 
 	/**
@@ -153,7 +352,7 @@ public class JSON extends StringParser {
 	 * @param string JSON text to be checked
 	 * @return whether the passed JSON text is a string or not
 	 */
-	@SwitchingMethod(String.class)
+	@SwitchingMethod(value = String.class, leading = "\"")
 	public boolean is_string(String string) {
 		return string.length() > 1 &&
 			   string.charAt(0) == '"' &&
@@ -166,116 +365,10 @@ public class JSON extends StringParser {
 	 * @param string json text to be parsed
 	 * @return an array from the given JSON text
 	 */
-	@SuppressWarnings("DuplicatedCode")
 	@ParsingMethod
 	public ArrayList parse_array(String string) {
-		if (string.charAt(0) != '[' || string.charAt(string.length() - 1) != ']')
-			string = '[' + string + ']';
-
-		ArrayList<Object> list = new ArrayList<>();
-		StringBuilder builder = new StringBuilder();
-
-		boolean quotation = false, escape = false;
-		int brackets = -1, karly = 0;
-
-		for (char point : string.toCharArray()) {
-			if (escape) {
-				//case reading between quotation marks and the previous char is '\'
-				escape = false;
-				switch (point) {
-					case 't':
-						builder.append('\t');
-						break;
-					case 'n':
-						builder.append('\n');
-						break;
-					case 'r':
-						builder.append('\r');
-						break;
-					default:
-						builder.append(point);
-				}
-			} else if (quotation) {
-				//case reading between quotation marks
-				switch (point) {
-					case '\\':
-						escape = true;
-						break;
-					case '"':
-						builder.append(point);
-						quotation = false;
-						break;
-					default:
-						builder.append(point);
-						break;
-				}
-			} else if (brackets > 0) {
-				//case reading inside a brackets
-				builder.append(point);
-				switch (point) {
-					case '[':
-						brackets++;
-						break;
-					case ']':
-						brackets--;
-						break;
-					case '"':
-						quotation = true;
-						break;
-				}
-			} else if (karly > 0) {
-				//case reading inside a karly brackets
-				builder.append(point);
-				switch (point) {
-					case '{':
-						karly++;
-						break;
-					case '}':
-						karly--;
-						break;
-					case '"':
-						quotation = true;
-						break;
-				}
-			} else {
-				//case reading in the main section
-				switch (point) {
-					case '\n':
-					case '\t':
-					case '\r':
-					case ' ':
-					case 65533:
-						break;
-					case '[':
-						if (brackets != -1)
-							builder.append(point);
-						brackets++;
-						break;
-					case '{':
-						builder.append(point);
-						karly++;
-						break;
-					case '"':
-						builder.append(point);
-						quotation = true;
-						break;
-					case ',':
-					case ']':
-						String collected = builder.toString();
-
-						if (!collected.equals(""))
-							list.add(collected.equals("#") ? list : this.parse(collected));
-
-						builder = new StringBuilder();
-						break;
-					default:
-						builder.append(point);
-						break;
-				}
-			}
-		}
-
-		return list;
+		JSONDecoder decoder = new JSONDecoder(this, string);
+		return this.parallel(string) ? decoder.decodeArray(this.pool()) : decoder.decodeArray();
 	}
 
 	/**
@@ -308,7 +401,8 @@ public class JSON extends StringParser {
 	 */
 	@ParsingMethod
 	public Double parse_double(String string) {
-		return Double.valueOf(string);
+		Number number = Numbers.parse(string);
+		return number == null ? Double.valueOf(string) : number.doubleValue();
 	}
 
 	/**
@@ -319,7 +413,8 @@ public class JSON extends StringParser {
 	 */
 	@ParsingMethod
 	public Float parse_float(String string) {
-		return Float.valueOf(string);
+		Number number = Numbers.parse(string);
+		return number == null ? Float.valueOf(string) : number.floatValue();
 	}
 
 	/**
@@ -330,7 +425,8 @@ public class JSON extends StringParser {
 	 */
 	@ParsingMethod
 	public Integer parse_integer(String string) {
-		return Integer.valueOf(string);
+		Number number = Numbers.parse(string);
+		return number == null ? Integer.valueOf(string) : number.intValue();
 	}
 
 	/**
@@ -341,7 +437,18 @@ public class JSON extends StringParser {
 	 */
 	@ParsingMethod
 	public Long parse_long(String string) {
-		return Long.valueOf(string);
+		Number number = Numbers.parse(string);
+		return number == null ? Long.valueOf(string) : number.longValue();
+	}
+
+	/**
+	 * Parse the given JSON text into a {@link LazyJSONMap lazy map}. That parses its values only when they are touched.
+	 *
+	 * @param string json text to be parsed
+	 * @return a lazy map from the given JSON text
+	 */
+	public LazyJSONMap parse_lazy(String string) {
+		return new LazyJSONMap(this, string);
 	}
 
 	/**
@@ -350,119 +457,43 @@ public class JSON extends StringParser {
 	 * @param string json text to be parsed
 	 * @return a map from the given JSON text
 	 */
-	@SuppressWarnings("DuplicatedCode")
 	@ParsingMethod
 	public HashMap<Object, Object> parse_map(String string) {
-		if (string.charAt(0) != '{' || string.charAt(string.length() - 1) != '}')
-			string = '{' + string + '}';
-
-		HashMap<Object, Object> map = new HashMap<>(); //result
-		StringBuilder builder = new StringBuilder(); //temporary builder
-
-		String key = ""; //temporary key-string holders
-
-		boolean quotation = false, escape = false; //modes
-		int brackets = 0, karly = -1; //positions
-
-		for (char point : string.toCharArray())
-			if (escape) { //escape mode
-				escape = false;
-				switch (point) {
-					case 't':
-						builder.append('\t');
-						break;
-					case 'n':
-						builder.append('\n');
-						break;
-					case 'r':
-						builder.append('\r');
-						break;
-					default:
-						builder.append(point);
-				}
-			} else if (quotation) { //quotation mode
-				switch (point) {
-					case '\\':
-						escape = true;
-						break;
-					case '"':
-						builder.append(point);
-						quotation = false;
-						break;
-					default:
-						builder.append(point);
-						break;
-				}
-			} else if (brackets > 0) { //square brackets
-				builder.append(point);
-				switch (point) {
-					case '[':
-						brackets++;
-						break;
-					case ']':
-						brackets--;
-						break;
-					case '"':
-						quotation = true;
-						break;
-				}
-			} else if (karly > 0) { //karly brackets
-				builder.append(point);
-				switch (point) {
-					case '{':
-						karly++;
-						break;
-					case '}':
-						karly--;
-						break;
-					case '"':
-						quotation = true;
-						break;
-				}
-			} else {
-				switch (point) {
-					case '\n':
-					case '\t':
-					case '\r':
-					case ' ':
-					case 65533:
-						break;
-					case '"':
-						builder.append(point);
-						quotation = true;
-						break;
-					case '[':
-						builder.append(point);
-						brackets++;
-						break;
-					case '{':
-						if (karly != -1)
-							builder.append(point);
-						karly++;
-						break;
-					case ':':
-					case '=':
-						key = builder.toString();
-						builder = new StringBuilder();
-						break;
-					case ',':
-					case '}':
-						String value = builder.toString();
-
-						if (!key.equals(""))
-							map.put(Arrays.contains(key, "#", "(this Map)") ? map : this.parse(key),
-									Arrays.contains(value, "#", "(this Map)") ? map : this.parse(value));
-
-						key = "";
-						builder = new StringBuilder();
-						break;
-					default:
-						builder.append(point);
-						break;
-				}
-			}
+		return new JSONDecoder(this, string).decodeMap();
+	}
+
+	/**
+	 * Check if the arrays of the given JSON text should be parsed concurrently.
+	 *
+	 * @param string the JSON text to be parsed
+	 * @return whether to parse the given text concurrently or not
+	 */
+	protected boolean parallel(String string) {
+		return this.parallelism > 1 && string.length() >= this.threshold;
+	}
 
-		return map;
+	/**
+	 * Parse the given unquoted JSON token (a token that is not a map, an array, a string nor a character). Using the switching methods of this
+	 * parser. (lexed directly if the class of this parser don't override any. See {@link #lexing()})
+	 *
+	 * @param string json token to be parsed
+	 * @return an object from the given JSON token
+	 */
+	protected Object parse_scalar(String string) {
+		if (string.equals("null"))
+			return null;
+		if (!this.lexing())
+			return super.parse(string);
+
+		switch (string) {
+			case "true":
+				return Boolean.TRUE;
+			case "false":
+				return Boolean.FALSE;
+			default:
+				Number number = Numbers.parse(string);
+				return number == null ? super.parse(string) : number;
+		}
 	}
 
 	/**
@@ -476,6 +507,63 @@ public class JSON extends StringParser {
 		return Strings.crop(string, 1, 1);
 	}
 
+	/**
+	 * Get the pool to be used for parallel parsing. With the {@link #parallelism} of this.
+	 *
+	 * @return the pool to be used for parallel parsing
+	 */
+	protected ForkJoinPool pool() {
+		return this.parallelism == ForkJoinPool.getCommonPoolParallelism() ?
+			   ForkJoinPool.commonPool() :
+			   JSON.pools.computeIfAbsent(this.parallelism, ForkJoinPool::new);
+	}
+
+	/**
+	 * Check if the maps, arrays, strings and characters can be decoded directly. Without passing them to the switching and parsing methods. That
+	 * is if the class of this parser don't override any of the methods that switch and parse them. (so the result is the same)
+	 *
+	 * @return whether maps, arrays, strings and characters can be decoded directly or not
+	 */
+	boolean decoding() {
+		return JSON.decoding.get(this.getClass());
+	}
+
+	/**
+	 * Check if the unquoted tokens can be lexed directly. Without passing them to the switching and parsing methods. That is if the class of
+	 * this parser don't override (nor add) any switching or parsing method. (so the result is the same)
+	 *
+	 * @return whether unquoted tokens can be lexed directly or not
+	 */
+	boolean lexing() {
+		return JSON.lexing.get(this.getClass());
+	}
+
+	/**
+	 * Get the stringing method of this parser for the given type. If it is not one of the stringing methods declared by this class. (so
+	 * {@link JSONWriter} shall invoke it instead of writing values of the given type itself)
+	 *
+	 * @param type the type of the value to be stringed
+	 * @return the overriding stringing method for the given type. Or null if the writer can write it itself
+	 */
+	Dispatcher.Stringer overridden(Class<?> type) {
+		Set<Class<?>> types = JSON.overriding.get(this.getClass());
+
+		if (types.isEmpty())
+			return null;
+
+		Dispatcher.Stringer stringer = this.dispatcher().stringer(type);
+		return stringer != null && types.contains(stringer.type) ? stringer : null;
+	}
+
+	/**
+	 * Check if the class of this parser overrides (or adds) any stringing method.
+	 *
+	 * @return whether the class of this have stringing methods other than the ones declared by this class or not
+	 */
+	boolean overriding() {
+		return !JSON.overriding.get(this.getClass()).isEmpty();
+	}
+
 	/**
 	 * Stringify the given {@link Object[] array} as a JSON text.
 	 *
@@ -483,23 +571,9 @@ public class JSON extends StringParser {
 	 * @param shift shifting string
 	 * @return a JSON text from the given array
 	 */
-	@SuppressWarnings("DuplicatedCode")
 	@StringingMethod
 	public String stringify_array(Object[] array, String shift) {
-		StringBuilder text = new StringBuilder();
-		text.append("[");
-
-		for (Object object : array)
-			text.append(text.length() == 1 ? "" : ",")
-					.append("\n\t")
-					.append(shift)
-					.append(object == array ? "#" : this.stringify(object, shift + "\t"));
-
-		text.append("\n")
-				.append(shift)
-				.append("]");
-
-		return text.toString();
+		return this.stringify(array, shift, true);
 	}
 
 	/**
@@ -510,7 +584,7 @@ public class JSON extends StringParser {
 	 */
 	@StringingMethod
 	public String stringify_character(Character character) {
-		return "\'" + character + "\'";
+		return this.stringify(character, "", true);
 	}
 
 	/**
@@ -520,23 +594,9 @@ public class JSON extends StringParser {
 	 * @param shift      shifting string
 	 * @return a JSON text from the given collection
 	 */
-	@SuppressWarnings("DuplicatedCode")
 	@StringingMethod
 	public String stringify_collection(Collection collection, String shift) {
-		StringBuilder text = new StringBuilder();
-		text.append("[");
-
-		for (Object object : collection)
-			text.append(text.length() == 1 ? "" : ",")
-					.append("\n\t")
-					.append(shift)
-					.append(object == collection ? "#" : this.stringify(object, shift + "\t"));
-
-		text.append("\n")
-				.append(shift)
-				.append("]");
-
-		return text.toString();
+		return this.stringify(collection, shift, true);
 	}
 
 	/**
@@ -570,23 +630,18 @@ public class JSON extends StringParser {
 	 */
 	@StringingMethod
 	public String stringify_map(Map<?, ?> map, String shift) {
-		StringBuilder text = new StringBuilder();
-		text.append("{");
-
-		map.forEach((key, value) ->
-				text.append(text.length() == 1 ? "" : ",")
-						.append("\n")
-						.append(shift)
-						.append("\t")
-						.append(key == map ? "#" : this.stringify(key, shift + "\t"))
-						.append(":\t")
-						.append(value == map ? "#" : this.stringify(value, shift + "\t")));
-
-		text.append("\n")
-				.append(shift)
-				.append("}");
+		return this.stringify(map, shift, true);
+	}
 
-		return text.toString();
+	/**
+	 * Stringify the given object that {@link JSONWriter} don't know how to write. Using the stringing methods of this parser.
+	 *
+	 * @param object to stringify
+	 * @param shift  shifting string
+	 * @return a JSON text from the given object
+	 */
+	protected String stringify_other(Object object, String shift) {
+		return super.stringify(object, shift);
 	}
 
 	/**
@@ -597,8 +652,41 @@ public class JSON extends StringParser {
 	 */
 	@StringingMethod
 	public String stringify_string(String string) {
-		return '"' + string.replace("\n", "\\n")
-				.replace("\r", "\\r")
-				.replace("\t", "\\t") + '"';
+		return this.stringify(string, "", true);
+	}
+
+	/**
+	 * Get a string equal to the given range of the given characters of an unquoted token. Deduplicated like {@link #string(char[], int, int)}.
+	 * Unless the token is a number. (numeric texts are parsed into numbers. So pooling them would only evict the strings worth keeping)
+	 *
+	 * @param chars the characters
+	 * @param start the index of the first character (inclusive)
+	 * @param end   the index after the last character (exclusive)
+	 * @return a string equal to the given range
+	 */
+	String token(char[] chars, int start, int end) {
+		return start < end && Numbers.LEADING.indexOf(chars[start]) != -1 ?
+			   new String(chars, start, end - start) :
+			   this.string(chars, start, end);
+	}
+
+	/**
+	 * Get a string equal to the given range of the given characters of an unquoted token. Deduplicated like
+	 * {@link #string(CharSequence, int, int)}. Unless the token is a number. (see {@link #token(char[], int, int)})
+	 *
+	 * @param text  the characters
+	 * @param start the index of the first character (inclusive)
+	 * @param end   the index after the last character (exclusive)
+	 * @return a string equal to the given range
+	 */
+	String token(CharSequence text, int start, int end) {
+		return start < end && Numbers.LEADING.indexOf(text.charAt(start)) != -1 ?
+			   text.subSequence(start, end).toString() :
+			   this.string(text, start, end);
+	}
+
+	@Override
+	public void write(Appendable appendable, Object object) throws IOException {
+		new JSONWriter(this, appendable, this.compact).write(object);
 	}
 }
@@ -0,0 +1,617 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.json;
+
+import lsafer.util.Numbers;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * A single-pass recursive-descent decoder for UTF-8 JSON texts stored in a {@link ByteBuffer} (ex. a {@link java.nio.MappedByteBuffer} of a
+ * file). The decoder walks the bytes of the buffer directly. And only decodes UTF-8 for the contents of the strings. So the text is never
+ * copied as a whole into a {@link String} or a char array.
+ * <br>
+ * The decoder supports the same syntax {@link JSONDecoder} supports. Numbers are parsed straight from the bytes using {@link Numbers}. Other
+ * unquoted tokens are passed to {@link JSON#parse_scalar(String)}.
+ * <p>
+ * Note: a decoder instance is a one time use object. And it's not thread safe. The position of the given buffer is not changed by the decoder.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public class JSONByteDecoder {
+	/**
+	 * The bytes to be decoded.
+	 */
+	final protected ByteBuffer buffer;
+	/**
+	 * The parser to be used to parse unquoted tokens.
+	 */
+	final protected JSON json;
+	/**
+	 * Whether the unquoted tokens can be lexed directly or not. (see {@link JSON#lexing()})
+	 */
+	final protected boolean lexing;
+	/**
+	 * The index where this decoder should stop reading.
+	 */
+	final protected int limit;
+	/**
+	 * A reusable view of the ASCII bytes of the current token. (to parse numbers without creating strings)
+	 */
+	final protected Token token = new Token();
+	/**
+	 * A reusable buffer to decode the strings into.
+	 */
+	protected char[] chars = new char[64];
+	/**
+	 * The index of the next byte to be read.
+	 */
+	protected int position;
+
+	/**
+	 * Initialize this to decode the bytes of the given buffer from its position to its limit.
+	 *
+	 * @param json   the parser to be used to parse unquoted tokens
+	 * @param buffer the UTF-8 bytes to be decoded
+	 */
+	public JSONByteDecoder(JSON json, ByteBuffer buffer) {
+		this.json = json;
+		this.lexing = json.lexing();
+		this.buffer = buffer;
+		this.position = buffer.position();
+		this.limit = buffer.limit();
+	}
+
+	/**
+	 * Check if the given byte ends an unquoted token.
+	 *
+	 * @param point to be checked
+	 * @return whether the given byte ends an unquoted token or not
+	 */
+	public static boolean isDelimiter(int point) {
+		switch (point) {
+			case ',':
+			case ':':
+			case '=':
+			case '{':
+			case '}':
+			case '[':
+			case ']':
+			case ' ':
+			case '\t':
+			case '\n':
+			case '\r':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Decode the whole bytes of this decoder. If the text is not a single map, array, string or character. Then it will be parsed as a token.
+	 *
+	 * @return the decoded value
+	 */
+	public Object decode() {
+		int start = this.position;
+
+		this.skipWhitespace();
+		if (this.position < this.limit)
+			switch (this.buffer.get(this.position)) {
+				case '{':
+				case '[':
+				case '"':
+				case '\'':
+					Object value = this.readValue(null);
+					this.skipWhitespace();
+
+					if (this.position >= this.limit)
+						return value;
+			}
+
+		return this.json.parse_scalar(this.decodeToken(start, this.limit));
+	}
+
+	/**
+	 * Decode the bytes of this decoder as an array. The surrounding square brackets are optional.
+	 *
+	 * @return the decoded array
+	 */
+	public ArrayList<Object> decodeArray() {
+		ArrayList<Object> list = new ArrayList<>();
+
+		this.skipWhitespace();
+		if (this.position < this.limit && this.buffer.get(this.position) == '[') {
+			this.position++;
+			this.readElements(list, ']');
+		} else {
+			this.readElements(list, -1);
+		}
+
+		return list;
+	}
+
+	/**
+	 * Decode the bytes of this decoder as a map. The surrounding curly brackets are optional.
+	 *
+	 * @return the decoded map
+	 */
+	public HashMap<Object, Object> decodeMap() {
+		HashMap<Object, Object> map = new HashMap<>();
+
+		this.skipWhitespace();
+		if (this.position < this.limit && this.buffer.get(this.position) == '{') {
+			this.position++;
+			this.readMembers(map, '}');
+		} else {
+			this.readMembers(map, -1);
+		}
+
+		return map;
+	}
+
+	/**
+	 * Append the given character to the {@link #chars} buffer. Growing it if needed.
+	 *
+	 * @param length the number of characters already in the buffer
+	 * @param point  the code point to be appended
+	 * @return the new number of characters in the buffer
+	 */
+	protected int append(int length, int point) {
+		if (length + 2 > this.chars.length)
+			this.chars = java.util.Arrays.copyOf(this.chars, this.chars.length << 1);
+
+		return length + Character.toChars(point, this.chars, length);
+	}
+
+	/**
+	 * Decode the UTF-8 bytes in the given range into a string.
+	 *
+	 * @param start the index of the first byte (inclusive)
+	 * @param end   the index of the last byte (exclusive)
+	 * @return a string from the given range
+	 */
+	protected String decode(int start, int end) {
+		return this.json.string(this.chars, 0, this.decodeChars(start, end));
+	}
+
+	/**
+	 * Decode the UTF-8 bytes in the given range into the {@link #chars} buffer.
+	 *
+	 * @param start the index of the first byte (inclusive)
+	 * @param end   the index of the last byte (exclusive)
+	 * @return the count of the characters decoded
+	 */
+	protected int decodeChars(int start, int end) {
+		int position = this.position, length = 0;
+
+		this.position = start;
+		while (this.position < end)
+			length = this.append(length, this.readCodePoint());
+
+		this.position = position;
+		return length;
+	}
+
+	/**
+	 * Decode the UTF-8 bytes of the unquoted token in the given range into a string. (numeric tokens are not deduplicated. See
+	 * {@link JSON#token(char[], int, int)})
+	 *
+	 * @param start the index of the first byte (inclusive)
+	 * @param end   the index of the last byte (exclusive)
+	 * @return a string from the given range
+	 */
+	protected String decodeToken(int start, int end) {
+		return this.json.token(this.chars, 0, this.decodeChars(start, end));
+	}
+
+	/**
+	 * Check if the byte at the given index ends an unquoted token. Like {@link JSONDecoder#isDelimiter(int)}. So U+FEFF and U+FFFD end tokens
+	 * too.
+	 *
+	 * @param index the index of the byte
+	 * @return whether the byte at the given index ends an unquoted token or not
+	 */
+	protected boolean delimits(int index) {
+		byte point = this.buffer.get(index);
+		return JSONByteDecoder.isDelimiter(point) || point == (byte) 0xEF && this.whitespace(index) != 0;
+	}
+
+	/**
+	 * Check if the given range is the given ASCII literal.
+	 *
+	 * @param start   the index of the first byte
+	 * @param end     the index after the last byte
+	 * @param literal to be compared with
+	 * @return whether the given range is the given literal or not
+	 */
+	protected boolean matches(int start, int end, String literal) {
+		if (end - start != literal.length())
+			return false;
+
+		for (int i = 0; i < literal.length(); i++)
+			if (this.buffer.get(start + i) != literal.charAt(i))
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Read a character written between single quotation marks. If the next bytes are not a character. Then it will be read as an unquoted
+	 * token.
+	 *
+	 * @param owner the map or the array that the character is read for
+	 * @return the value of the character
+	 */
+	protected Object readCharacter(Object owner) {
+		int start = this.position;
+
+		if (start + 2 < this.limit) {
+			this.position++;
+
+			if (this.buffer.get(this.position) == '\\') {
+				if (start + 3 < this.limit && this.buffer.get(start + 3) == '\'') {
+					this.position = start + 4;
+					return JSONDecoder.escape((char) this.buffer.get(start + 2));
+				}
+			} else {
+				int point = this.readCodePoint();
+
+				if (point <= Character.MAX_VALUE && this.position < this.limit && this.buffer.get(this.position) == '\'') {
+					this.position++;
+					return (char) point;
+				}
+			}
+
+			this.position = start;
+		}
+
+		return this.readToken(owner);
+	}
+
+	/**
+	 * Read the next UTF-8 character. Malformed sequences are read as the replacement character (U+FFFD).
+	 *
+	 * @return the code point of the next character
+	 */
+	protected int readCodePoint() {
+		int point = this.buffer.get(this.position++) & 0xFF;
+
+		if (point < 0x80)
+			return point;
+
+		int remaining;
+		if ((point & 0xE0) == 0xC0) {
+			remaining = 1;
+			point &= 0x1F;
+		} else if ((point & 0xF0) == 0xE0) {
+			remaining = 2;
+			point &= 0x0F;
+		} else if ((point & 0xF8) == 0xF0) {
+			remaining = 3;
+			point &= 0x07;
+		} else {
+			return 0xFFFD;
+		}
+
+		for (; remaining > 0; remaining--) {
+			if (this.position >= this.limit)
+				return 0xFFFD;
+
+			int next = this.buffer.get(this.position);
+
+			if ((next & 0xC0) != 0x80)
+				return 0xFFFD;
+
+			point = point << 6 | next & 0x3F;
+			this.position++;
+		}
+
+		return point > Character.MAX_CODE_POINT ? 0xFFFD : point;
+	}
+
+	/**
+	 * Read the elements of an array. Until the given terminator (the terminator will be consumed).
+	 *
+	 * @param list       to add the elements to
+	 * @param terminator the character that ends the array (-1 for the end of the bytes)
+	 */
+	protected void readElements(ArrayList<Object> list, int terminator) {
+		while (true) {
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return;
+
+			byte point = this.buffer.get(this.position);
+
+			if (point == terminator) {
+				this.position++;
+				return;
+			}
+
+			switch (point) {
+				case ',':
+				case ':':
+				case '=':
+				case '}':
+				case ']':
+					//empty elements and stray characters
+					this.position++;
+					continue;
+			}
+
+			list.add(this.readValue(list));
+		}
+	}
+
+	/**
+	 * Read the members of a map. Until the given terminator (the terminator will be consumed).
+	 *
+	 * @param map        to put the members to
+	 * @param terminator the character that ends the map (-1 for the end of the bytes)
+	 */
+	protected void readMembers(HashMap<Object, Object> map, int terminator) {
+		while (true) {
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return;
+
+			byte point = this.buffer.get(this.position);
+
+			if (point == terminator) {
+				this.position++;
+				return;
+			}
+
+			switch (point) {
+				case ',':
+				case ':':
+				case '=':
+				case '}':
+				case ']':
+					//empty members and stray characters
+					this.position++;
+					continue;
+			}
+
+			Object key = this.readValue(map);
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return;
+
+			point = this.buffer.get(this.position);
+
+			if (point == ':' || point == '=') {
+				this.position++;
+				this.skipWhitespace();
+
+				if (this.position < this.limit) {
+					point = this.buffer.get(this.position);
+
+					//a key with no value
+					map.put(key, point == ',' || point == terminator ? "" : this.readValue(map));
+				}
+			}
+			//a key with no separator will be ignored
+		}
+	}
+
+	/**
+	 * Read a string written between double quotation marks. The cursor should be on the opening quotation mark.
+	 *
+	 * @return the value of the string
+	 */
+	protected String readString() {
+		int length = 0;
+		this.position++;
+
+		while (this.position < this.limit) {
+			byte point = this.buffer.get(this.position);
+
+			if (point == '"') {
+				this.position++;
+				break;
+			}
+			if (point >= 0) {
+				this.position++;
+
+				if (point != '\\') {
+					if (length == this.chars.length)
+						this.chars = java.util.Arrays.copyOf(this.chars, length << 1);
+
+					this.chars[length++] = (char) point;
+					continue;
+				}
+				if (this.position >= this.limit)
+					break;
+
+				point = this.buffer.get(this.position++);
+
+				if (point == 'u' && this.position + 4 <= this.limit) {
+					int code = JSONDecoder.hex(this.token.reset(this.position, this.position + 4), 0);
+
+					if (code != -1) {
+						length = this.append(length, code);
+						this.position += 4;
+						continue;
+					}
+				}
+				if (point < 0) {
+					//an escaped non-ASCII character
+					this.position--;
+					length = this.append(length, this.readCodePoint());
+					continue;
+				}
+
+				length = this.append(length, JSONDecoder.escape((char) point));
+				continue;
+			}
+
+			length = this.append(length, this.readCodePoint());
+		}
+
+		return this.json.string(this.chars, 0, length);
+	}
+
+	/**
+	 * Read an unquoted token.
+	 *
+	 * @param owner the map or the array that the token is read for (to be returned if the token is '#' or '(this Map)')
+	 * @return the value of the token
+	 */
+	protected Object readToken(Object owner) {
+		int start = this.position;
+
+		if (owner != null && this.limit - start >= 10 && this.matches(start, start + 10, "(this Map)")) {
+			this.position += 10;
+			return owner;
+		}
+
+		while (this.position < this.limit && !this.delimits(this.position))
+			this.position++;
+
+		int end = this.position;
+
+		if (end - start == 1 && this.buffer.get(start) == '#' && owner != null)
+			return owner;
+		if (!this.lexing)
+			return this.json.parse_scalar(this.decodeToken(start, end));
+		if (this.matches(start, end, "null"))
+			return null;
+		if (this.matches(start, end, "true"))
+			return Boolean.TRUE;
+		if (this.matches(start, end, "false"))
+			return Boolean.FALSE;
+
+		Number number = Numbers.parse(this.token.reset(start, end));
+
+		return number == null ? this.json.parse_scalar(this.decodeToken(start, end)) : number;
+	}
+
+	/**
+	 * Read the next value.
+	 *
+	 * @param owner the map or the array that the value is read for (to be returned if the value is '#')
+	 * @return the value read
+	 */
+	protected Object readValue(Object owner) {
+		switch (this.buffer.get(this.position)) {
+			case '{':
+				HashMap<Object, Object> map = new HashMap<>();
+				this.position++;
+				this.readMembers(map, '}');
+				return map;
+			case '[':
+				ArrayList<Object> list = new ArrayList<>();
+				this.position++;
+				this.readElements(list, ']');
+				return list;
+			case '"':
+				return this.readString();
+			case '\'':
+				return this.readCharacter(owner);
+			default:
+				return this.readToken(owner);
+		}
+	}
+
+	/**
+	 * Move the cursor of this to the next non-whitespace byte. Byte order marks (and replacement characters) are skipped as whitespaces.
+	 */
+	protected void skipWhitespace() {
+		int length;
+		while (this.position < this.limit && (length = this.whitespace(this.position)) != 0)
+			this.position += length;
+	}
+
+	/**
+	 * Get the length of the whitespace at the given index. Like {@link JSONDecoder#isWhitespace(int)}. So U+FEFF (EF BB BF) and U+FFFD (EF BF BD)
+	 * are whitespaces too.
+	 *
+	 * @param index the index of the first byte of the whitespace
+	 * @return the count of bytes of the whitespace at the given index. Or 0 if there is no whitespace at the given index
+	 */
+	protected int whitespace(int index) {
+		switch (this.buffer.get(index)) {
+			case ' ':
+			case '\t':
+			case '\n':
+			case '\r':
+				return 1;
+			case (byte) 0xEF:
+				if (index + 2 < this.limit) {
+					byte second = this.buffer.get(index + 1), third = this.buffer.get(index + 2);
+
+					if (second == (byte) 0xBB && third == (byte) 0xBF ||
+						second == (byte) 0xBF && third == (byte) 0xBD)
+						return 3;
+				}
+
+				return 0;
+			default:
+				return 0;
+		}
+	}
+
+	/**
+	 * A reusable {@link CharSequence} view of a range of ASCII bytes of the buffer of the decoder.
+	 */
+	protected class Token implements CharSequence {
+		/**
+		 * The index of the last byte of this token (exclusive).
+		 */
+		protected int end;
+		/**
+		 * The index of the first byte of this token.
+		 */
+		protected int start;
+
+		@Override
+		public char charAt(int index) {
+			return (char) (JSONByteDecoder.this.buffer.get(this.start + index) & 0xFF);
+		}
+
+		@Override
+		public int length() {
+			return this.end - this.start;
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return JSONByteDecoder.this.decodeToken(this.start + start, this.start + end);
+		}
+
+		@Override
+		public String toString() {
+			return JSONByteDecoder.this.decodeToken(this.start, this.end);
+		}
+
+		/**
+		 * Make this view the given range.
+		 *
+		 * @param start the index of the first byte (inclusive)
+		 * @param end   the index of the last byte (exclusive)
+		 * @return this
+		 */
+		protected Token reset(int start, int end) {
+			this.start = start;
+			this.end = end;
+			return this;
+		}
+	}
+}
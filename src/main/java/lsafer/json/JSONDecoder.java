@@ -0,0 +1,911 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.json;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A single-pass recursive-descent decoder for JSON texts. The decoder walks the given text once with a cursor. And builds the resulted
+ * {@link HashMap maps} and {@link ArrayList arrays} directly while walking. Without copying any nested text.
+ * <br>
+ * The decoder supports the extensions {@link JSON} supports:
+ * <ul>
+ * <li>characters written between single quotation marks (ex. <code>'c'</code>)</li>
+ * <li>numbers with type suffixes (ex. <code>1.5F</code> or <code>7L</code>)</li>
+ * <li>the <code>=</code> character as a key-value separator</li>
+ * <li>the <code>#</code> (or <code>(this Map)</code>) token as a reference to the containing map or array</li>
+ * <li>unquoted tokens (ex. <code>{key:value}</code>)</li>
+ * </ul>
+ * <p>
+ * Note: a decoder instance is a one time use object. And it's not thread safe.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public class JSONDecoder {
+	/**
+	 * The parser to be used to parse unquoted tokens.
+	 */
+	final protected JSON json;
+	/**
+	 * Whether the maps, arrays, strings and characters can be decoded directly or not. (see {@link JSON#decoding()})
+	 */
+	final protected boolean decoding;
+	/**
+	 * The index where this decoder should stop reading.
+	 */
+	final protected int limit;
+	/**
+	 * The text to be decoded.
+	 */
+	final protected String text;
+	/**
+	 * The index of the next character to be read.
+	 */
+	protected int position;
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param json the parser to be used to parse unquoted tokens
+	 * @param text to be decoded
+	 */
+	public JSONDecoder(JSON json, String text) {
+		this(json, text, 0, text.length());
+	}
+
+	/**
+	 * Initialize this to decode a specific range of the given text.
+	 *
+	 * @param json  the parser to be used to parse unquoted tokens
+	 * @param text  to be decoded
+	 * @param start the index to start decoding from (inclusive)
+	 * @param end   the index to stop decoding at (exclusive)
+	 */
+	public JSONDecoder(JSON json, String text, int start, int end) {
+		this.json = json;
+		this.decoding = json.decoding();
+		this.text = text;
+		this.position = start;
+		this.limit = end;
+	}
+
+	/**
+	 * Check if the given character is ignored between tokens.
+	 *
+	 * @param point to be checked
+	 * @return whether the given character is a whitespace or not
+	 */
+	public static boolean isWhitespace(int point) {
+		switch (point) {
+			case ' ':
+			case '\t':
+			case '\n':
+			case '\r':
+			case 65279:
+			case 65533:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Check if the given character ends an unquoted token.
+	 *
+	 * @param point to be checked
+	 * @return whether the given character ends an unquoted token or not
+	 */
+	public static boolean isDelimiter(int point) {
+		switch (point) {
+			case ',':
+			case ':':
+			case '=':
+			case '{':
+			case '}':
+			case '[':
+			case ']':
+				return true;
+			default:
+				return JSONDecoder.isWhitespace(point);
+		}
+	}
+
+	/**
+	 * Decode the whole text of this decoder. If the text is not a single map, array, string or character. Then it will be parsed as a token
+	 * using {@link JSON#parse_scalar(String)}.
+	 *
+	 * @return the decoded value
+	 */
+	public Object decode() {
+		int start = this.position;
+
+		this.skipWhitespace();
+		if (this.position < this.limit)
+			switch (this.text.charAt(this.position)) {
+				case '{':
+				case '[':
+				case '"':
+				case '\'':
+					Object value = this.readValue(null);
+					this.skipWhitespace();
+
+					if (this.position >= this.limit)
+						return value;
+			}
+
+		return this.json.parse_scalar(this.text.substring(start, this.limit));
+	}
+
+	/**
+	 * Decode the whole text of this decoder. Like {@link #decode()}. But if the text is an array, then its elements are parsed concurrently
+	 * using the given pool.
+	 *
+	 * @param pool to parse the elements with
+	 * @return the decoded value
+	 * @see #decodeArray(ForkJoinPool)
+	 */
+	public Object decode(ForkJoinPool pool) {
+		int start = this.position;
+
+		this.skipWhitespace();
+		if (this.position < this.limit && this.text.charAt(this.position) == '[') {
+			this.position++;
+			ArrayList<Object> list = this.readElements(pool, ']');
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return list;
+		}
+
+		this.position = start;
+		return this.decode();
+	}
+
+	/**
+	 * Decode the text of this decoder as an array. The surrounding square brackets are optional.
+	 *
+	 * @return the decoded array
+	 */
+	public ArrayList<Object> decodeArray() {
+		ArrayList<Object> list = new ArrayList<>();
+
+		this.skipWhitespace();
+		if (this.position < this.limit && this.text.charAt(this.position) == '[') {
+			this.position++;
+			this.readElements(list, ']');
+		} else {
+			this.readElements(list, -1);
+		}
+
+		return list;
+	}
+
+	/**
+	 * Decode the text of this decoder as an array. The surrounding square brackets are optional. A quick structural pass finds the boundaries of
+	 * the elements. Then the elements are parsed concurrently using the given pool. And added to the returned array in order.
+	 *
+	 * @param pool to parse the elements with
+	 * @return the decoded array
+	 */
+	public ArrayList<Object> decodeArray(ForkJoinPool pool) {
+		this.skipWhitespace();
+		if (this.position < this.limit && this.text.charAt(this.position) == '[') {
+			this.position++;
+			return this.readElements(pool, ']');
+		}
+
+		return this.readElements(pool, -1);
+	}
+
+	/**
+	 * Decode the text of this decoder as a map. The surrounding curly brackets are optional.
+	 *
+	 * @return the decoded map
+	 */
+	public HashMap<Object, Object> decodeMap() {
+		HashMap<Object, Object> map = new HashMap<>();
+
+		this.skipWhitespace();
+		if (this.position < this.limit && this.text.charAt(this.position) == '{') {
+			this.position++;
+			this.readMembers(map, '}');
+		} else {
+			this.readMembers(map, -1);
+		}
+
+		return map;
+	}
+
+	/**
+	 * Decode only the value addressed by the given JSON pointer (RFC 6901). Skipping over the subtrees that don't match the pointer without
+	 * building them.
+	 * <br><br><b>example:</b>
+	 * <pre>
+	 *     text = {"servers": [{}, {}, {}, {"port": 80}]}
+	 *     extract("/servers/3/port") = 80
+	 * </pre>
+	 *
+	 * @param pointer the path of the value (ex. "/servers/3/port"). Or an empty string for the whole text
+	 * @return the addressed value. Or null if there is no value at the given pointer
+	 * @throws IllegalArgumentException if the given pointer is not empty and don't start with '/'
+	 */
+	public Object extract(String pointer) {
+		String[] tokens = JSONDecoder.pointer(pointer);
+
+		if (tokens.length == 0)
+			return this.decode();
+
+		for (String token : tokens) {
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return null;
+
+			switch (this.text.charAt(this.position++)) {
+				case '{':
+					if (!this.seekMember(token))
+						return null;
+					break;
+				case '[':
+					if (!this.seekElement(JSONDecoder.index(token)))
+						return null;
+					break;
+				default:
+					return null;
+			}
+		}
+
+		switch (this.text.charAt(this.position)) {
+			case ',':
+			case '}':
+			case ']':
+				//a key with no value
+				return "";
+			default:
+				return this.readValue(null);
+		}
+	}
+
+	/**
+	 * Read the elements of an array. Until the given terminator (the terminator will be consumed).
+	 *
+	 * @param list       to add the elements to
+	 * @param terminator the character that ends the array (-1 for the end of the text)
+	 */
+	protected void readElements(ArrayList<Object> list, int terminator) {
+		while (true) {
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return;
+
+			char point = this.text.charAt(this.position);
+
+			if (point == terminator) {
+				this.position++;
+				return;
+			}
+
+			switch (point) {
+				case ',':
+				case ':':
+				case '=':
+				case '}':
+				case ']':
+					//empty elements and stray characters
+					this.position++;
+					continue;
+			}
+
+			list.add(this.readValue(list));
+		}
+	}
+
+	/**
+	 * Read the elements of an array concurrently. Until the given terminator (the terminator will be consumed).
+	 *
+	 * @param pool       to parse the elements with
+	 * @param terminator the character that ends the array (-1 for the end of the text)
+	 * @return the elements read
+	 */
+	protected ArrayList<Object> readElements(ForkJoinPool pool, int terminator) {
+		//the start of each element. (the elements are delimited by the scan. So the start is enough to read them)
+		int[] starts = new int[64];
+		int count = 0;
+
+		while (true) {
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				break;
+
+			char point = this.text.charAt(this.position);
+
+			if (point == terminator) {
+				this.position++;
+				break;
+			}
+
+			switch (point) {
+				case ',':
+				case ':':
+				case '=':
+				case '}':
+				case ']':
+					//empty elements and stray characters
+					this.position++;
+					continue;
+			}
+
+			if (count == starts.length)
+				starts = java.util.Arrays.copyOf(starts, count << 1);
+
+			starts[count++] = this.position;
+			this.skipValue();
+		}
+
+		ArrayList<Object> list = new ArrayList<>(count);
+		Object[] elements = new Object[count];
+		//about 4 tasks for each thread. To balance elements with different sizes
+		int leaf = Math.max(1, count / (pool.getParallelism() << 2));
+
+		pool.invoke(new ElementsTask(list, elements, starts, 0, count, leaf));
+
+		java.util.Collections.addAll(list, elements);
+		return list;
+	}
+
+	/**
+	 * Read the members of a map. Until the given terminator (the terminator will be consumed).
+	 *
+	 * @param map        to put the members to
+	 * @param terminator the character that ends the map (-1 for the end of the text)
+	 */
+	protected void readMembers(HashMap<Object, Object> map, int terminator) {
+		while (true) {
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return;
+
+			char point = this.text.charAt(this.position);
+
+			if (point == terminator) {
+				this.position++;
+				return;
+			}
+
+			switch (point) {
+				case ',':
+				case ':':
+				case '=':
+				case '}':
+				case ']':
+					//empty members and stray characters
+					this.position++;
+					continue;
+			}
+
+			Object key = this.readValue(map);
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return;
+
+			point = this.text.charAt(this.position);
+
+			if (point == ':' || point == '=') {
+				this.position++;
+				this.skipWhitespace();
+
+				if (this.position < this.limit) {
+					point = this.text.charAt(this.position);
+
+					//a key with no value
+					map.put(key, point == ',' || point == terminator ? "" : this.readValue(map));
+				}
+			}
+			//a key with no separator will be ignored
+		}
+	}
+
+	/**
+	 * Read an unquoted token.
+	 *
+	 * @param owner the map or the array that the token is read for (to be returned if the token is '#' or '(this Map)')
+	 * @return the value of the token
+	 */
+	protected Object readToken(Object owner) {
+		int start = this.position;
+
+		if (owner != null && this.limit - start >= 10 && this.text.startsWith("(this Map)", start)) {
+			this.position += 10;
+			return owner;
+		}
+
+		while (this.position < this.limit && !JSONDecoder.isDelimiter(this.text.charAt(this.position)))
+			this.position++;
+
+		if (this.position - start == 1 && this.text.charAt(start) == '#' && owner != null)
+			return owner;
+
+		return this.json.parse_scalar(this.json.token(this.text, start, this.position));
+	}
+
+	/**
+	 * Read a character written between single quotation marks. If the next characters are not a character. Then it will be read as an unquoted
+	 * token.
+	 *
+	 * @param owner the map or the array that the character is read for
+	 * @return the value of the character
+	 */
+	protected Object readCharacter(Object owner) {
+		int p = this.position;
+
+		if (p + 2 < this.limit) {
+			char point = this.text.charAt(p + 1);
+
+			if (point == '\\' && p + 3 < this.limit && this.text.charAt(p + 3) == '\'') {
+				this.position = p + 4;
+				return JSONDecoder.escape(this.text.charAt(p + 2));
+			}
+			if (this.text.charAt(p + 2) == '\'') {
+				this.position = p + 3;
+				return point;
+			}
+		}
+
+		return this.readToken(owner);
+	}
+
+	/**
+	 * Read a string written between double quotation marks. The cursor should be on the opening quotation mark.
+	 *
+	 * @return the value of the string
+	 */
+	protected String readString() {
+		int start = ++this.position;
+
+		//fast path: no escapes
+		while (this.position < this.limit) {
+			char point = this.text.charAt(this.position);
+
+			if (point == '"')
+				return this.json.string(this.text, start, this.position++);
+			if (point == '\\')
+				break;
+
+			this.position++;
+		}
+
+		StringBuilder builder = new StringBuilder(this.position - start + 16);
+		builder.append(this.text, start, this.position);
+
+		while (this.position < this.limit) {
+			char point = this.text.charAt(this.position++);
+
+			if (point == '"')
+				return this.json.string(builder, 0, builder.length());
+			if (point != '\\') {
+				builder.append(point);
+				continue;
+			}
+			if (this.position >= this.limit)
+				break;
+
+			point = this.text.charAt(this.position++);
+
+			if (point == 'u' && this.position + 4 <= this.limit) {
+				int code = JSONDecoder.hex(this.text, this.position);
+
+				if (code != -1) {
+					builder.append((char) code);
+					this.position += 4;
+					continue;
+				}
+			}
+
+			builder.append(JSONDecoder.escape(point));
+		}
+
+		//unterminated string
+		return this.json.string(builder, 0, builder.length());
+	}
+
+	/**
+	 * Read the next value.
+	 *
+	 * @param owner the map or the array that the value is read for (to be returned if the value is '#')
+	 * @return the value read
+	 */
+	protected Object readValue(Object owner) {
+		if (!this.decoding)
+			switch (this.text.charAt(this.position)) {
+				case '{':
+				case '[':
+				case '"':
+				case '\'':
+					//so the methods the parser overrides parse the nested values too
+					int start = this.position;
+					this.skipValue();
+					return this.json.parse(this.text.substring(start, this.position));
+			}
+
+		switch (this.text.charAt(this.position)) {
+			case '{':
+				HashMap<Object, Object> map = new HashMap<>();
+				this.position++;
+				this.readMembers(map, '}');
+				return map;
+			case '[':
+				ArrayList<Object> list = new ArrayList<>();
+				this.position++;
+				this.readElements(list, ']');
+				return list;
+			case '"':
+				return this.readString();
+			case '\'':
+				return this.readCharacter(owner);
+			default:
+				return this.readToken(owner);
+		}
+	}
+
+	/**
+	 * Move the cursor of this to the element at the given index of the array the cursor is in. The cursor should be after the opening bracket.
+	 *
+	 * @param index the index of the element (-1 for no element)
+	 * @return whether the element is found or not
+	 */
+	protected boolean seekElement(int index) {
+		if (index < 0)
+			return false;
+
+		while (true) {
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return false;
+
+			switch (this.text.charAt(this.position)) {
+				case ']':
+					return false;
+				case ',':
+				case ':':
+				case '=':
+				case '}':
+					//empty elements and stray characters
+					this.position++;
+					continue;
+			}
+
+			if (index-- == 0)
+				return true;
+
+			this.skipValue();
+		}
+	}
+
+	/**
+	 * Move the cursor of this to the value of the given key in the map the cursor is in. The cursor should be after the opening bracket.
+	 *
+	 * @param name the key of the value (compared to the string value of each key)
+	 * @return whether the value is found or not
+	 */
+	protected boolean seekMember(String name) {
+		while (true) {
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return false;
+
+			switch (this.text.charAt(this.position)) {
+				case '}':
+					return false;
+				case ',':
+				case ':':
+				case '=':
+				case ']':
+					//empty members and stray characters
+					this.position++;
+					continue;
+			}
+
+			boolean match = name.equals(String.valueOf(this.readValue(null)));
+			this.skipWhitespace();
+
+			if (this.position >= this.limit)
+				return false;
+
+			char point = this.text.charAt(this.position);
+
+			if (point == ':' || point == '=') {
+				this.position++;
+				this.skipWhitespace();
+
+				if (this.position >= this.limit)
+					return false;
+				if (match)
+					return true;
+
+				point = this.text.charAt(this.position);
+
+				if (point != ',' && point != '}')
+					this.skipValue();
+			}
+		}
+	}
+
+	/**
+	 * Move the cursor of this over a character written between single quotation marks. Or over a single character if the next characters are
+	 * not a character.
+	 */
+	protected void skipCharacter() {
+		int p = this.position;
+
+		if (p + 3 < this.limit && this.text.charAt(p + 1) == '\\' && this.text.charAt(p + 3) == '\'')
+			this.position = p + 4;
+		else if (p + 2 < this.limit && this.text.charAt(p + 2) == '\'')
+			this.position = p + 3;
+		else this.position = p + 1;
+	}
+
+	/**
+	 * Move the cursor of this over a string written between double quotation marks. The cursor should be on the opening quotation mark.
+	 */
+	protected void skipString() {
+		this.position++;
+
+		while (this.position < this.limit)
+			switch (this.text.charAt(this.position++)) {
+				case '\\':
+					this.position++;
+					break;
+				case '"':
+					return;
+			}
+	}
+
+	/**
+	 * Move the cursor of this over a map or an array. Without building it. The cursor should be on the opening bracket.
+	 */
+	protected void skipStructure() {
+		int depth = 0;
+
+		while (this.position < this.limit)
+			switch (this.text.charAt(this.position)) {
+				case '"':
+					this.skipString();
+					break;
+				case '\'':
+					this.skipCharacter();
+					break;
+				case '{':
+				case '[':
+					depth++;
+					this.position++;
+					break;
+				case '}':
+				case ']':
+					this.position++;
+
+					if (--depth == 0)
+						return;
+					break;
+				default:
+					this.position++;
+			}
+	}
+
+	/**
+	 * Move the cursor of this over the next value. Without building it.
+	 */
+	protected void skipValue() {
+		switch (this.text.charAt(this.position)) {
+			case '{':
+			case '[':
+				this.skipStructure();
+				return;
+			case '"':
+				this.skipString();
+				return;
+			case '\'':
+				int p = this.position;
+				this.skipCharacter();
+
+				//not a character. Then it is a token
+				if (this.position == p + 1)
+					while (this.position < this.limit && !JSONDecoder.isDelimiter(this.text.charAt(this.position)))
+						this.position++;
+				return;
+			default:
+				while (this.position < this.limit && !JSONDecoder.isDelimiter(this.text.charAt(this.position)))
+					this.position++;
+		}
+	}
+
+	/**
+	 * Move the cursor of this to the next non-whitespace character.
+	 */
+	protected void skipWhitespace() {
+		while (this.position < this.limit && JSONDecoder.isWhitespace(this.text.charAt(this.position)))
+			this.position++;
+	}
+
+	/**
+	 * Get the character represented by the given escaped character.
+	 *
+	 * @param point the character after the backslash
+	 * @return the character represented by the given escaped character
+	 */
+	static char escape(char point) {
+		switch (point) {
+			case 't':
+				return '\t';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			default:
+				return point;
+		}
+	}
+
+	/**
+	 * Get the array index represented by the given JSON pointer token.
+	 *
+	 * @param token the pointer token
+	 * @return the index represented by the given token. Or -1 if it is not an index
+	 */
+	static int index(String token) {
+		int length = token.length();
+
+		if (length == 0 || length > 9 || length > 1 && token.charAt(0) == '0')
+			return -1;
+
+		int index = 0;
+		for (int i = 0; i < length; i++) {
+			char point = token.charAt(i);
+
+			if (point < '0' || point > '9')
+				return -1;
+
+			index = index * 10 + point - '0';
+		}
+
+		return index;
+	}
+
+	/**
+	 * Split the given JSON pointer into its (unescaped) tokens.
+	 *
+	 * @param pointer the JSON pointer (ex. "/servers/3/port")
+	 * @return the tokens of the given pointer
+	 * @throws IllegalArgumentException if the given pointer is not empty and don't start with '/'
+	 */
+	static String[] pointer(String pointer) {
+		if (pointer.isEmpty())
+			return new String[0];
+		if (pointer.charAt(0) != '/')
+			throw new IllegalArgumentException("A JSON pointer should start with '/': " + pointer);
+
+		String[] tokens = pointer.substring(1).split("/", -1);
+
+		for (int i = 0; i < tokens.length; i++)
+			if (tokens[i].indexOf('~') != -1)
+				tokens[i] = tokens[i].replace("~1", "/").replace("~0", "~");
+
+		return tokens;
+	}
+
+	/**
+	 * Read 4 hex digits from the given text.
+	 *
+	 * @param text  to read from
+	 * @param index of the first digit
+	 * @return the value of the 4 hex digits. Or -1 if they are not hex digits
+	 */
+	static int hex(CharSequence text, int index) {
+		int code = 0;
+
+		for (int i = index; i < index + 4; i++) {
+			int digit = Character.digit(text.charAt(i), 16);
+
+			if (digit == -1)
+				return -1;
+
+			code = code << 4 | digit;
+		}
+
+		return code;
+	}
+
+	/**
+	 * A task that reads a range of the elements of an array. Splitting itself until the range is small enough.
+	 */
+	protected class ElementsTask extends RecursiveAction {
+		/**
+		 * The version of this class. (tasks are never serialized. But the superclass is serializable)
+		 */
+		final private static long serialVersionUID = 1L;
+
+		/**
+		 * The elements read (by index).
+		 */
+		final protected Object[] elements;
+		/**
+		 * The index of the first element of this task.
+		 */
+		final protected int from;
+		/**
+		 * The maximum number of elements to be read without splitting.
+		 */
+		final protected int leaf;
+		/**
+		 * The array the elements are read for (to be used for '#' elements).
+		 */
+		final protected ArrayList<Object> owner;
+		/**
+		 * The start index of each element.
+		 */
+		final protected int[] starts;
+		/**
+		 * The index after the last element of this task.
+		 */
+		final protected int to;
+
+		/**
+		 * Initialize this.
+		 *
+		 * @param owner    the array the elements are read for
+		 * @param elements to store the elements read
+		 * @param starts   the start index of each element
+		 * @param from     the index of the first element of this task
+		 * @param to       the index after the last element of this task
+		 * @param leaf     the maximum number of elements to be read without splitting
+		 */
+		protected ElementsTask(ArrayList<Object> owner, Object[] elements, int[] starts, int from, int to, int leaf) {
+			this.owner = owner;
+			this.elements = elements;
+			this.starts = starts;
+			this.from = from;
+			this.to = to;
+			this.leaf = leaf;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from > this.leaf) {
+				int middle = this.from + this.to >>> 1;
+				ForkJoinTask.invokeAll(new ElementsTask(this.owner, this.elements, this.starts, this.from, middle, this.leaf),
+						new ElementsTask(this.owner, this.elements, this.starts, middle, this.to, this.leaf));
+				return;
+			}
+
+			JSONDecoder decoder = new JSONDecoder(JSONDecoder.this.json, JSONDecoder.this.text, 0, JSONDecoder.this.limit);
+
+			for (int i = this.from; i < this.to; i++) {
+				decoder.position = this.starts[i];
+				this.elements[i] = decoder.readValue(this.owner);
+			}
+		}
+	}
+}
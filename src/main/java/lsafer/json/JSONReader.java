@@ -0,0 +1,983 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.json;
+
+import java.io.*;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * A pull-style JSON tokens reader. Reads the JSON text from a {@link Reader} through a fixed-size buffer. So a document of any size can be
+ * processed in a constant memory. (excluding the values the caller chooses to read)
+ * <br><br><b>example:</b>
+ * <pre>
+ *     reader.beginObject();
+ *     while (reader.hasNext()) {
+ *         String name = reader.nextName();
+ *         if (name.equals("id"))
+ *             id = reader.nextNumber();
+ *         else reader.skipValue();
+ *     }
+ *     reader.endObject();
+ * </pre>
+ * <ul>
+ * <li>
+ * note: the reader supports the same extensions {@link JSONDecoder} supports. Except that a name with no separator after it is not allowed.
+ * </li>
+ * <li>
+ * note: multiple values can be written at the top-level. And each one of them can be read after the other.
+ * </li>
+ * </ul>
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public class JSONReader implements Closeable {
+	/**
+	 * The default size of the characters buffer of the readers.
+	 */
+	final public static int DEFAULT_BUFFER_SIZE = 8192;
+	/**
+	 * The minimum size of the characters buffer of the readers. The length of the longest token a reader looks ahead for. ("(this Map)")
+	 */
+	final public static int MINIMUM_BUFFER_SIZE = 10;
+
+	/**
+	 * Scope: the reader has been closed.
+	 */
+	final private static int CLOSED = 8;
+	/**
+	 * Scope: inside an array with no elements read yet.
+	 */
+	final private static int EMPTY_ARRAY = 1;
+	/**
+	 * Scope: the top-level with no values read yet.
+	 */
+	final private static int EMPTY_DOCUMENT = 6;
+	/**
+	 * Scope: inside a map with no members read yet.
+	 */
+	final private static int EMPTY_OBJECT = 3;
+	/**
+	 * Scope: inside a map and a name have been read. But it's value didn't.
+	 */
+	final private static int DANGLING_NAME = 5;
+	/**
+	 * Scope: inside an array with elements read.
+	 */
+	final private static int NONEMPTY_ARRAY = 2;
+	/**
+	 * Scope: the top-level with values read.
+	 */
+	final private static int NONEMPTY_DOCUMENT = 7;
+	/**
+	 * Scope: inside a map with members read.
+	 */
+	final private static int NONEMPTY_OBJECT = 4;
+
+	/**
+	 * The characters buffer.
+	 */
+	final protected char[] buffer;
+	/**
+	 * The parser to be used to parse unquoted tokens.
+	 */
+	final protected JSON json;
+	/**
+	 * The source of this reader.
+	 */
+	final protected Reader reader;
+	/**
+	 * The count of characters that have been dropped from the buffer. (to calculate the offset for error messages)
+	 */
+	protected long dropped;
+	/**
+	 * The count of the valid characters in the buffer.
+	 */
+	protected int limit;
+	/**
+	 * The last token peeked. Or null if the last token has been consumed.
+	 */
+	protected Token peeked;
+	/**
+	 * Whether the content of the peeked string or name is still in the buffer and not read yet.
+	 */
+	protected boolean pending;
+	/**
+	 * The index of the next character to be read in the buffer.
+	 */
+	protected int position;
+	/**
+	 * The depth of the scopes stack.
+	 */
+	protected int depth = 1;
+	/**
+	 * The scopes stack.
+	 */
+	protected int[] stack = new int[32];
+	/**
+	 * The value of the peeked token. (if it has been already read)
+	 */
+	protected Object value;
+
+	{
+		this.stack[0] = EMPTY_DOCUMENT;
+	}
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param reader the source of the JSON text
+	 */
+	public JSONReader(Reader reader) {
+		this(JSON.global, reader, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Initialize this to read an UTF-8 JSON text.
+	 *
+	 * @param stream the source of the JSON text
+	 */
+	public JSONReader(InputStream stream) {
+		this(JSON.global, new InputStreamReader(stream, StandardCharsets.UTF_8), DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param json   the parser to be used to parse unquoted tokens
+	 * @param reader the source of the JSON text
+	 */
+	public JSONReader(JSON json, Reader reader) {
+		this(json, reader, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param json       the parser to be used to parse unquoted tokens
+	 * @param reader     the source of the JSON text
+	 * @param bufferSize the size of the characters buffer (at least {@link #MINIMUM_BUFFER_SIZE})
+	 */
+	public JSONReader(JSON json, Reader reader, int bufferSize) {
+		this.json = json;
+		this.reader = reader;
+		this.buffer = new char[Math.max(MINIMUM_BUFFER_SIZE, bufferSize)];
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be the start of an array.
+	 *
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public void beginArray() throws IOException {
+		this.expect(Token.BEGIN_ARRAY);
+		this.position++;
+		this.push(EMPTY_ARRAY);
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be the start of a map.
+	 *
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public void beginObject() throws IOException {
+		this.expect(Token.BEGIN_OBJECT);
+		this.position++;
+		this.push(EMPTY_OBJECT);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.peeked = null;
+		this.depth = 1;
+		this.stack[0] = CLOSED;
+		this.reader.close();
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be the end of an array.
+	 *
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public void endArray() throws IOException {
+		this.expect(Token.END_ARRAY);
+		this.depth--;
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be the end of a map.
+	 *
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public void endObject() throws IOException {
+		this.expect(Token.END_OBJECT);
+		this.depth--;
+	}
+
+	/**
+	 * Read only the value addressed by the given JSON pointer (RFC 6901) relative to the next value. Skipping over the subtrees that don't match
+	 * the pointer without building them. (the reader is left after the addressed value)
+	 *
+	 * @param pointer the path of the value (ex. "/servers/3/port"). Or an empty string for the whole next value
+	 * @return the addressed value. Or null if there is no value at the given pointer
+	 * @throws IOException              if an I/O error occurs or the JSON text is malformed
+	 * @throws IllegalArgumentException if the given pointer is not empty and don't start with '/'
+	 */
+	public Object extract(String pointer) throws IOException {
+		for (String token : JSONDecoder.pointer(pointer)) {
+			switch (this.peek()) {
+				case BEGIN_OBJECT:
+					this.beginObject();
+
+					while (true) {
+						if (!this.hasNext())
+							return null;
+						if (token.equals(this.nextName()))
+							break;
+
+						this.skipValue();
+					}
+					break;
+				case BEGIN_ARRAY:
+					this.beginArray();
+
+					for (int index = JSONDecoder.index(token); ; index--) {
+						if (index < 0 || !this.hasNext())
+							return null;
+						if (index == 0)
+							break;
+
+						this.skipValue();
+					}
+					break;
+				default:
+					return null;
+			}
+		}
+
+		return this.hasNext() ? this.readValue() : null;
+	}
+
+	/**
+	 * Check if the current array or map (or the top-level) has more elements.
+	 *
+	 * @return whether there is more elements or not
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public boolean hasNext() throws IOException {
+		Token token = this.peek();
+		return token != Token.END_ARRAY && token != Token.END_OBJECT && token != Token.END_DOCUMENT;
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be a boolean.
+	 *
+	 * @return the value of the boolean
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public boolean nextBoolean() throws IOException {
+		this.expect(Token.BOOLEAN);
+		return (Boolean) this.value;
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be a character.
+	 *
+	 * @return the value of the character
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public char nextCharacter() throws IOException {
+		this.expect(Token.CHARACTER);
+		return (Character) this.value;
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be a name.
+	 *
+	 * @return the name
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public String nextName() throws IOException {
+		this.expect(Token.NAME);
+		return this.pending ? this.readQuoted() : (String) this.value;
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be a null.
+	 *
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public void nextNull() throws IOException {
+		this.expect(Token.NULL);
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be a number. The type of the returned number depends on the written number (and its suffix).
+	 * <br><br><b>example:</b>
+	 * <pre>
+	 *     1 = Integer
+	 *     1L = Long
+	 *     1.5 = Double
+	 *     1.5F = Float
+	 * </pre>
+	 *
+	 * @return the value of the number
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public Number nextNumber() throws IOException {
+		this.expect(Token.NUMBER);
+		return (Number) this.value;
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be a self reference ('#' or '(this Map)').
+	 *
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public void nextReference() throws IOException {
+		this.expect(Token.REFERENCE);
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be a string.
+	 *
+	 * @return the value of the string
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public String nextString() throws IOException {
+		this.expect(Token.STRING);
+		return this.pending ? this.readQuoted() : String.valueOf(this.value);
+	}
+
+	/**
+	 * Get the type of the next token. Without consuming it.
+	 *
+	 * @return the type of the next token
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public Token peek() throws IOException {
+		if (this.peeked != null)
+			return this.peeked;
+
+		int point;
+		switch (this.stack[this.depth - 1]) {
+			case EMPTY_ARRAY:
+			case NONEMPTY_ARRAY:
+				point = this.skipSeparators();
+
+				if (point == ']') {
+					this.position++;
+					return this.peeked = Token.END_ARRAY;
+				}
+				if (point == -1)
+					throw this.syntax("Unterminated array");
+
+				this.stack[this.depth - 1] = NONEMPTY_ARRAY;
+				return this.peekValue(point);
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				point = this.skipSeparators();
+
+				if (point == '}') {
+					this.position++;
+					return this.peeked = Token.END_OBJECT;
+				}
+				if (point == -1)
+					throw this.syntax("Unterminated map");
+
+				this.stack[this.depth - 1] = DANGLING_NAME;
+				return this.peekName(point);
+			case DANGLING_NAME:
+				point = this.nextNonWhitespace();
+
+				if (point != ':' && point != '=')
+					throw this.syntax("Expected ':' after a name");
+
+				this.position++;
+				this.stack[this.depth - 1] = NONEMPTY_OBJECT;
+				point = this.nextNonWhitespace();
+
+				if (point == ',' || point == '}') {
+					//a name with no value
+					this.pending = false;
+					this.value = "";
+					return this.peeked = Token.STRING;
+				}
+				if (point == -1)
+					throw this.syntax("Unterminated map");
+
+				return this.peekValue(point);
+			case EMPTY_DOCUMENT:
+			case NONEMPTY_DOCUMENT:
+				point = this.nextNonWhitespace();
+
+				if (point == -1)
+					return this.peeked = Token.END_DOCUMENT;
+
+				this.stack[this.depth - 1] = NONEMPTY_DOCUMENT;
+				return this.peekValue(point);
+			case CLOSED:
+				throw new IllegalStateException("JSONReader is closed");
+			default:
+				throw new IllegalStateException("Unknown scope " + this.stack[this.depth - 1]);
+		}
+	}
+
+	/**
+	 * Read the next value as an object. Maps will be read as {@link HashMap}s and arrays will be read as {@link ArrayList}s.
+	 *
+	 * @return the next value
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public Object readValue() throws IOException {
+		return this.readValue(null);
+	}
+
+	/**
+	 * Skip the next value (or name). Without building any object of it.
+	 *
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	public void skipValue() throws IOException {
+		Token token = this.peek();
+
+		switch (token) {
+			case BEGIN_ARRAY:
+			case BEGIN_OBJECT:
+				this.skipStructure();
+				break;
+			case NAME:
+			case STRING:
+				if (this.pending)
+					this.skipQuoted();
+				break;
+			case END_ARRAY:
+			case END_OBJECT:
+			case END_DOCUMENT:
+				throw new IllegalStateException("Expected a value but was " + token);
+		}
+
+		this.peeked = null;
+		this.value = null;
+	}
+
+	/**
+	 * Consume the next token. Expecting it to be the given token.
+	 *
+	 * @param token the expected token
+	 * @throws IOException           if an I/O error occurs or the JSON text is malformed
+	 * @throws IllegalStateException if the next token is not the expected token
+	 */
+	protected void expect(Token token) throws IOException {
+		Token peeked = this.peek();
+
+		if (peeked != token)
+			throw new IllegalStateException("Expected " + token + " but was " + peeked + " at offset " + this.offset());
+
+		this.peeked = null;
+	}
+
+	/**
+	 * Make sure that the buffer has at least the given count of unread characters. (If the source still have them)
+	 *
+	 * @param minimum the count of characters needed
+	 * @return whether the buffer have the needed count of characters or not
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected boolean fill(int minimum) throws IOException {
+		if (this.limit - this.position >= minimum)
+			return true;
+
+		this.dropped += this.position;
+		this.limit -= this.position;
+		System.arraycopy(this.buffer, this.position, this.buffer, 0, this.limit);
+		this.position = 0;
+
+		int read;
+		while (this.limit < this.buffer.length && (read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit)) != -1) {
+			this.limit += read;
+
+			if (this.limit >= minimum)
+				return true;
+		}
+
+		return this.limit >= minimum;
+	}
+
+	/**
+	 * Get the next character that is not a whitespace. Without consuming it.
+	 *
+	 * @return the next non-whitespace character. Or -1 if the end of the source reached
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected int nextNonWhitespace() throws IOException {
+		while (this.position < this.limit || this.fill(1)) {
+			char point = this.buffer[this.position];
+
+			if (!JSONDecoder.isWhitespace(point))
+				return point;
+
+			this.position++;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Get the offset of the next character from the start of the source.
+	 *
+	 * @return the offset of the next character
+	 */
+	protected long offset() {
+		return this.dropped + this.position;
+	}
+
+	/**
+	 * Peek a name that starts with the given character.
+	 *
+	 * @param point the first character of the name
+	 * @return the name token
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	protected Token peekName(int point) throws IOException {
+		switch (point) {
+			case '"':
+				this.pending = true;
+				break;
+			case '{':
+			case '[':
+			case ':':
+			case '=':
+			case ']':
+				throw this.syntax("Expected a name");
+			default:
+				this.pending = false;
+				this.value = this.readToken();
+		}
+
+		return this.peeked = Token.NAME;
+	}
+
+	/**
+	 * Peek an unquoted token.
+	 *
+	 * @return the token of the value
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	protected Token peekToken() throws IOException {
+		String token = this.readToken();
+
+		if (token.equals("#") || token.equals("(this Map)"))
+			return this.peeked = Token.REFERENCE;
+
+		Object value = this.json.parse_scalar(token);
+		this.value = value;
+
+		if (value == null)
+			return this.peeked = Token.NULL;
+		if (value instanceof Boolean)
+			return this.peeked = Token.BOOLEAN;
+		if (value instanceof Number)
+			return this.peeked = Token.NUMBER;
+		if (value instanceof Character)
+			return this.peeked = Token.CHARACTER;
+
+		return this.peeked = Token.STRING;
+	}
+
+	/**
+	 * Peek a value that starts with the given character.
+	 *
+	 * @param point the first character of the value
+	 * @return the token of the value
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	protected Token peekValue(int point) throws IOException {
+		this.pending = false;
+
+		switch (point) {
+			case '{':
+				return this.peeked = Token.BEGIN_OBJECT;
+			case '[':
+				return this.peeked = Token.BEGIN_ARRAY;
+			case '"':
+				this.pending = true;
+				return this.peeked = Token.STRING;
+			case '}':
+			case ']':
+			case ':':
+			case '=':
+				throw this.syntax("Expected a value");
+			case '\'':
+				if (this.readCharacter())
+					return this.peeked = Token.CHARACTER;
+
+				//not a character. Read it as an unquoted token
+				return this.peekToken();
+			default:
+				return this.peekToken();
+		}
+	}
+
+	/**
+	 * Push the given scope to the scopes stack.
+	 *
+	 * @param scope to be pushed
+	 */
+	protected void push(int scope) {
+		if (this.depth == this.stack.length)
+			this.stack = java.util.Arrays.copyOf(this.stack, this.depth * 2);
+
+		this.stack[this.depth++] = scope;
+	}
+
+	/**
+	 * Read a character written between single quotation marks. If the next characters are a character.
+	 *
+	 * @return true, if a character has been read (and stored as the value of the peeked token)
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected boolean readCharacter() throws IOException {
+		if (this.fill(3)) {
+			char first = this.buffer[this.position + 1];
+
+			if (first == '\\' && this.fill(4) && this.buffer[this.position + 3] == '\'') {
+				this.value = JSONDecoder.escape(this.buffer[this.position + 2]);
+				this.position += 4;
+				return true;
+			}
+			if (this.buffer[this.position + 2] == '\'') {
+				this.value = first;
+				this.position += 3;
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Read a string written between double quotation marks. The cursor should be on the opening quotation mark.
+	 *
+	 * @return the value of the string
+	 * @throws IOException if an I/O error occurs or the string is unterminated
+	 */
+	protected String readQuoted() throws IOException {
+		StringBuilder builder = null;
+		this.position++;
+
+		while (true) {
+			int start = this.position;
+
+			while (this.position < this.limit) {
+				char point = this.buffer[this.position];
+
+				if (point == '"') {
+					String string = builder == null ?
+									this.json.string(this.buffer, start, this.position) :
+									this.json.string(builder.append(this.buffer, start, this.position - start), 0, builder.length());
+					this.position++;
+					return string;
+				}
+				if (point == '\\') {
+					if (builder == null)
+						builder = new StringBuilder(this.position - start + 16);
+
+					builder.append(this.buffer, start, this.position - start);
+					this.position++;
+
+					if (!this.fill(1))
+						throw this.syntax("Unterminated string");
+
+					point = this.buffer[this.position++];
+
+					if (point == 'u' && this.fill(4)) {
+						int code = 0;
+
+						for (int i = 0; i < 4 && code != -1; i++) {
+							int digit = Character.digit(this.buffer[this.position + i], 16);
+							code = digit == -1 ? -1 : code << 4 | digit;
+						}
+
+						if (code != -1) {
+							builder.append((char) code);
+							this.position += 4;
+							start = this.position;
+							continue;
+						}
+					}
+
+					builder.append(JSONDecoder.escape(point));
+					start = this.position;
+					continue;
+				}
+
+				this.position++;
+			}
+
+			if (builder == null)
+				builder = new StringBuilder(this.position - start + 16);
+
+			builder.append(this.buffer, start, this.position - start);
+
+			if (!this.fill(1))
+				throw this.syntax("Unterminated string");
+		}
+	}
+
+	/**
+	 * Read an unquoted token.
+	 *
+	 * @return the text of the token
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected String readToken() throws IOException {
+		if (this.buffer[this.position] == '(' && this.fill(10) && "(this Map)".contentEquals(CharBuffer.wrap(this.buffer, this.position, 10))) {
+			this.position += 10;
+			return "(this Map)";
+		}
+
+		StringBuilder builder = null;
+
+		while (true) {
+			int start = this.position;
+
+			while (this.position < this.limit) {
+				if (JSONDecoder.isDelimiter(this.buffer[this.position]))
+					return builder == null ?
+						   this.json.token(this.buffer, start, this.position) :
+						   this.json.token(builder.append(this.buffer, start, this.position - start), 0, builder.length());
+
+				this.position++;
+			}
+
+			if (builder == null)
+				builder = new StringBuilder(this.position - start + 16);
+
+			builder.append(this.buffer, start, this.position - start);
+
+			if (!this.fill(1))
+				return this.json.token(builder, 0, builder.length());
+		}
+	}
+
+	/**
+	 * Read the next value as an object.
+	 *
+	 * @param owner the map or the array that the value is read for (to be returned if the value is '#')
+	 * @return the next value
+	 * @throws IOException if an I/O error occurs or the JSON text is malformed
+	 */
+	protected Object readValue(Object owner) throws IOException {
+		switch (this.peek()) {
+			case BEGIN_OBJECT:
+				HashMap<Object, Object> map = new HashMap<>();
+				this.beginObject();
+
+				while (this.hasNext()) {
+					this.expect(Token.NAME);
+
+					Object key;
+					if (this.pending) {
+						key = this.readQuoted();
+					} else {
+						String token = (String) this.value;
+						key = token.equals("#") || token.equals("(this Map)") ? map : this.json.parse_scalar(token);
+					}
+
+					map.put(key, this.readValue(map));
+				}
+
+				this.endObject();
+				return map;
+			case BEGIN_ARRAY:
+				ArrayList<Object> list = new ArrayList<>();
+				this.beginArray();
+
+				while (this.hasNext())
+					list.add(this.readValue(list));
+
+				this.endArray();
+				return list;
+			case REFERENCE:
+				this.nextReference();
+				return owner == null ? "#" : owner;
+			case STRING:
+				return this.nextString();
+			case NAME:
+			case END_ARRAY:
+			case END_OBJECT:
+			case END_DOCUMENT:
+				throw new IllegalStateException("Expected a value but was " + this.peeked + " at offset " + this.offset());
+			default:
+				this.peeked = null;
+				return this.value;
+		}
+	}
+
+	/**
+	 * Skip the separators (and the empty elements) between the elements of a map or an array.
+	 *
+	 * @return the next character after the separators. Or -1 if the end of the source reached
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected int skipSeparators() throws IOException {
+		int point;
+
+		while ((point = this.nextNonWhitespace()) == ',')
+			this.position++;
+
+		return point;
+	}
+
+	/**
+	 * Skip a string written between double quotation marks. The cursor should be on the opening quotation mark.
+	 *
+	 * @throws IOException if an I/O error occurs or the string is unterminated
+	 */
+	protected void skipQuoted() throws IOException {
+		this.position++;
+
+		while (this.position < this.limit || this.fill(1)) {
+			char point = this.buffer[this.position++];
+
+			if (point == '"')
+				return;
+			if (point == '\\' && (this.position < this.limit || this.fill(1)))
+				this.position++;
+		}
+
+		throw this.syntax("Unterminated string");
+	}
+
+	/**
+	 * Skip a whole map or array. The cursor should be on the opening bracket.
+	 *
+	 * @throws IOException if an I/O error occurs or the structure is unterminated
+	 */
+	protected void skipStructure() throws IOException {
+		int depth = 0;
+		boolean token = false;
+
+		while (this.position < this.limit || this.fill(1)) {
+			char point = this.buffer[this.position];
+
+			switch (point) {
+				case '{':
+				case '[':
+					depth++;
+					token = false;
+					break;
+				case '}':
+				case ']':
+					token = false;
+
+					if (--depth == 0) {
+						this.position++;
+						return;
+					}
+					break;
+				case '"':
+					this.skipQuoted();
+					token = false;
+					continue;
+				case '\'':
+					//a character only at the start of a token
+					if (!token && this.fill(3)) {
+						if (this.buffer[this.position + 1] == '\\' && this.fill(4) && this.buffer[this.position + 3] == '\'') {
+							this.position += 4;
+							continue;
+						}
+						if (this.buffer[this.position + 2] == '\'') {
+							this.position += 3;
+							continue;
+						}
+					}
+					token = true;
+					break;
+				default:
+					token = !JSONDecoder.isDelimiter(point);
+			}
+
+			this.position++;
+		}
+
+		throw this.syntax("Unterminated structure");
+	}
+
+	/**
+	 * Create an exception about a malformed JSON text.
+	 *
+	 * @param message the message of the exception
+	 * @return a new exception with the given message
+	 */
+	protected IOException syntax(String message) {
+		return new IOException(message + " at offset " + this.offset());
+	}
+
+	/**
+	 * The types of the tokens of a JSON text.
+	 */
+	public enum Token {
+		/**
+		 * The start of an array.
+		 */
+		BEGIN_ARRAY,
+		/**
+		 * The start of a map.
+		 */
+		BEGIN_OBJECT,
+		/**
+		 * A boolean value.
+		 */
+		BOOLEAN,
+		/**
+		 * A character value. (ex. <code>'c'</code>)
+		 */
+		CHARACTER,
+		/**
+		 * The end of an array.
+		 */
+		END_ARRAY,
+		/**
+		 * The end of the JSON text.
+		 */
+		END_DOCUMENT,
+		/**
+		 * The end of a map.
+		 */
+		END_OBJECT,
+		/**
+		 * A key of a map member.
+		 */
+		NAME,
+		/**
+		 * A null value.
+		 */
+		NULL,
+		/**
+		 * A number value. (ex. <code>1</code> or <code>1.5F</code> or <code>7L</code>)
+		 */
+		NUMBER,
+		/**
+		 * A reference to the containing map or array. (<code>#</code>)
+		 */
+		REFERENCE,
+		/**
+		 * A string value. (or an unquoted token that is not any other type)
+		 */
+		STRING
+	}
+}
@@ -0,0 +1,425 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.json;
+
+import lsafer.util.Arrays;
+import lsafer.util.StringParser;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A JSON writer that emits the JSON text of the given values straight to an {@link Appendable}. Without building any intermediate string for
+ * nested values.
+ * <br>
+ * The writer have two modes:
+ * <ul>
+ * <li>pretty: every element on it's own line. Shifted with tabs. (the same format of {@link JSON#stringify(Object)})</li>
+ * <li>compact: no whitespaces at all</li>
+ * </ul>
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public class JSONWriter implements Closeable, Flushable {
+	/**
+	 * Tabs to be appended as a sub-sequence. To avoid creating a shifting string foreach level.
+	 */
+	final private static String TABS = "\t\t\t\t\t\t\t\t\t\t\t\t\t\t\t\t";
+
+	/**
+	 * Whether this writer writes with no whitespaces or not.
+	 */
+	final protected boolean compact;
+	/**
+	 * The parser to be used to stringify the values this writer don't know.
+	 */
+	final protected JSON json;
+	/**
+	 * The destination of this writer.
+	 */
+	final protected Appendable out;
+	/**
+	 * Whether the parser overrides (or adds) stringing methods or not. (to skip looking for them if it don't)
+	 */
+	final protected boolean overriding;
+	/**
+	 * The shifting string to be written at the start of each line. (before the tabs of the levels)
+	 */
+	final protected String shift;
+	/**
+	 * The current nesting level.
+	 */
+	protected int depth;
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param out the destination of the JSON text
+	 */
+	public JSONWriter(Appendable out) {
+		this(JSON.global, out, false);
+	}
+
+	/**
+	 * Initialize this to write an UTF-8 JSON text.
+	 *
+	 * @param stream the destination of the JSON text
+	 */
+	public JSONWriter(OutputStream stream) {
+		this(JSON.global, new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8)), false);
+	}
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param json    the parser to be used to stringify the values this writer don't know
+	 * @param out     the destination of the JSON text
+	 * @param compact whether to write with no whitespaces or not
+	 */
+	public JSONWriter(JSON json, Appendable out, boolean compact) {
+		this(json, out, compact, "");
+	}
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param json    the parser to be used to stringify the values this writer don't know
+	 * @param out     the destination of the JSON text
+	 * @param compact whether to write with no whitespaces or not
+	 * @param shift   the shifting string to be written at the start of each line (ignored if compact)
+	 */
+	public JSONWriter(JSON json, Appendable out, boolean compact, String shift) {
+		this.json = json;
+		this.out = out;
+		this.overriding = json.overriding();
+		this.compact = compact;
+		this.shift = shift;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.out instanceof Closeable)
+			((Closeable) this.out).close();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (this.out instanceof Flushable)
+			((Flushable) this.out).flush();
+	}
+
+	/**
+	 * Write the JSON text of the given value.
+	 *
+	 * @param value to be written
+	 * @return this
+	 * @throws IOException if an I/O error occurs
+	 */
+	public JSONWriter write(Object value) throws IOException {
+		if (value != null && this.overriding) {
+			Class<?> klass = value.getClass();
+
+			//so the elements are passed to the overriding stringing methods too
+			if (klass.isArray() && klass.getComponentType().isPrimitive())
+				value = Arrays.objective(value);
+
+			StringParser.Dispatcher.Stringer stringer = this.json.overridden(value.getClass());
+
+			if (stringer != null) {
+				this.out.append(stringer.invoker.stringify(this.json, value, this.shift()));
+				return this;
+			}
+		}
+
+		this.writeValue(value);
+		return this;
+	}
+
+	/**
+	 * Write a line break and the shift of the current level. (nothing if this is compact)
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected void newline() throws IOException {
+		if (this.compact)
+			return;
+
+		this.out.append('\n').append(this.shift);
+
+		for (int i = this.depth; i > 0; i -= TABS.length())
+			this.out.append(TABS, 0, Math.min(i, TABS.length()));
+	}
+
+	/**
+	 * Get the shift of the current level as a string.
+	 *
+	 * @return the shift of the current level
+	 */
+	protected String shift() {
+		if (this.compact)
+			return "";
+
+		StringBuilder builder = new StringBuilder(this.shift);
+
+		for (int i = 0; i < this.depth; i++)
+			builder.append('\t');
+
+		return builder.toString();
+	}
+
+	/**
+	 * Write the given array.
+	 *
+	 * @param array to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected void writeArray(Object[] array) throws IOException {
+		this.out.append('[');
+		this.depth++;
+
+		for (int i = 0; i < array.length; i++) {
+			if (i != 0)
+				this.out.append(',');
+
+			this.newline();
+			Object element = array[i];
+
+			if (element == array)
+				this.out.append('#');
+			else this.write(element);
+		}
+
+		this.depth--;
+		this.newline();
+		this.out.append(']');
+	}
+
+	/**
+	 * Write the given character between single quotation marks.
+	 *
+	 * @param character to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected void writeCharacter(char character) throws IOException {
+		this.out.append('\'');
+
+		switch (character) {
+			case '\'':
+				this.out.append("\\'");
+				break;
+			case '\\':
+				this.out.append("\\\\");
+				break;
+			case '\n':
+				this.out.append("\\n");
+				break;
+			case '\r':
+				this.out.append("\\r");
+				break;
+			case '\t':
+				this.out.append("\\t");
+				break;
+			default:
+				this.out.append(character);
+		}
+
+		this.out.append('\'');
+	}
+
+	/**
+	 * Write the given collection as an array.
+	 *
+	 * @param collection to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected void writeCollection(Collection<?> collection) throws IOException {
+		this.out.append('[');
+		this.depth++;
+
+		boolean first = true;
+		for (Object element : collection) {
+			if (!first)
+				this.out.append(',');
+
+			first = false;
+			this.newline();
+
+			if (element == collection)
+				this.out.append('#');
+			else this.write(element);
+		}
+
+		this.depth--;
+		this.newline();
+		this.out.append(']');
+	}
+
+	/**
+	 * Write the given map.
+	 *
+	 * @param map to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected void writeMap(Map<?, ?> map) throws IOException {
+		this.out.append('{');
+		this.depth++;
+
+		boolean first = true;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			Object key = entry.getKey(), value = entry.getValue();
+
+			if (!first)
+				this.out.append(',');
+
+			first = false;
+			this.newline();
+
+			if (key == map)
+				this.out.append('#');
+			else this.write(key);
+
+			this.out.append(this.compact ? ":" : ":\t");
+
+			if (value == map)
+				this.out.append('#');
+			else this.write(value);
+		}
+
+		this.depth--;
+		this.newline();
+		this.out.append('}');
+	}
+
+	/**
+	 * Write the given primitive array. Without boxing it's elements.
+	 *
+	 * @param array to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected void writePrimitiveArray(Object array) throws IOException {
+		int length = java.lang.reflect.Array.getLength(array);
+
+		this.out.append('[');
+		this.depth++;
+
+		for (int i = 0; i < length; i++) {
+			if (i != 0)
+				this.out.append(',');
+
+			this.newline();
+
+			if (array instanceof int[])
+				this.out.append(Integer.toString(((int[]) array)[i]));
+			else if (array instanceof long[])
+				this.out.append(Long.toString(((long[]) array)[i])).append('L');
+			else if (array instanceof double[])
+				this.out.append(Double.toString(((double[]) array)[i]));
+			else if (array instanceof float[])
+				this.out.append(Float.toString(((float[]) array)[i])).append('F');
+			else if (array instanceof boolean[])
+				this.out.append(((boolean[]) array)[i] ? "true" : "false");
+			else if (array instanceof char[])
+				this.writeCharacter(((char[]) array)[i]);
+			else if (array instanceof byte[])
+				this.out.append(Byte.toString(((byte[]) array)[i]));
+			else if (array instanceof short[])
+				this.out.append(Short.toString(((short[]) array)[i]));
+		}
+
+		this.depth--;
+		this.newline();
+		this.out.append(']');
+	}
+
+	/**
+	 * Write the given string between double quotation marks. Escaping the characters that needs to be escaped.
+	 *
+	 * @param string to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected void writeString(String string) throws IOException {
+		this.out.append('"');
+
+		int start = 0, length = string.length();
+		for (int i = 0; i < length; i++) {
+			char point = string.charAt(i);
+			String escape;
+
+			switch (point) {
+				case '"':
+					escape = "\\\"";
+					break;
+				case '\\':
+					escape = "\\\\";
+					break;
+				case '\n':
+					escape = "\\n";
+					break;
+				case '\r':
+					escape = "\\r";
+					break;
+				case '\t':
+					escape = "\\t";
+					break;
+				case '\b':
+					escape = "\\b";
+					break;
+				case '\f':
+					escape = "\\f";
+					break;
+				default:
+					if (point >= ' ')
+						continue;
+
+					escape = String.format("\\u%04x", (int) point);
+			}
+
+			this.out.append(string, start, i).append(escape);
+			start = i + 1;
+		}
+
+		this.out.append(string, start, length).append('"');
+	}
+
+	/**
+	 * Write the JSON text of the given value. Without invoking the stringing methods the parser overrides for it. (its elements still do)
+	 *
+	 * @param value to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected void writeValue(Object value) throws IOException {
+		if (value == null)
+			this.out.append("null");
+		else if (value instanceof String)
+			this.writeString((String) value);
+		else if (value instanceof Map)
+			this.writeMap((Map<?, ?>) value);
+		else if (value instanceof Collection)
+			this.writeCollection((Collection<?>) value);
+		else if (value instanceof Integer || value instanceof Double || value instanceof Boolean)
+			this.out.append(value.toString());
+		else if (value instanceof Long)
+			this.out.append(value.toString()).append('L');
+		else if (value instanceof Float)
+			this.out.append(value.toString()).append('F');
+		else if (value instanceof Character)
+			this.writeCharacter((Character) value);
+		else if (value instanceof Object[])
+			this.writeArray((Object[]) value);
+		else if (value.getClass().isArray())
+			this.writePrimitiveArray(value);
+		else this.out.append(this.json.stringify_other(value, this.shift()));
+	}
+}
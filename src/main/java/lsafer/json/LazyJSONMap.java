@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.json;
+
+import lsafer.util.HybridMap;
+import lsafer.util.JetMap;
+
+import java.util.*;
+
+/**
+ * A JSON map that parses its values on demand. When constructed, a structural scan records where the value of each top-level key starts and
+ * ends (without building it). Then a value (including nested maps and arrays) is parsed only when it's first touched. And the result is cached.
+ * <br>
+ * Operations that touch all the values (ex. {@link #entrySet()}, {@link #values()}, {@link #containsValue(Object)}, {@link #equals(Object)}) parse
+ * all the remaining values.
+ * <p>
+ * Note: this map is not thread safe.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public class LazyJSONMap extends AbstractMap<Object, Object> implements JetMap<Object, Object>, HybridMap<Object, Object> {
+	/**
+	 * The parser to be used to parse the values.
+	 */
+	final protected JSON json;
+	/**
+	 * The keys of this mapped to its values. Or to the {@link Range} of its values if they are not parsed yet.
+	 */
+	final protected HashMap<Object, Object> map = new HashMap<>();
+	/**
+	 * The JSON text of this.
+	 */
+	final protected String text;
+	/**
+	 * The number of values not parsed yet. (may be more than the actual number if keys are removed through the key set)
+	 */
+	protected int pending;
+
+	/**
+	 * Initialize this. And scan the given JSON text. The surrounding curly brackets are optional.
+	 *
+	 * @param json the parser to be used to parse the values
+	 * @param text the JSON text of this
+	 */
+	public LazyJSONMap(JSON json, String text) {
+		this.json = json;
+		this.text = text;
+		this.scan(new JSONDecoder(json, text));
+	}
+
+	@Override
+	public void clear() {
+		this.map.clear();
+		this.pending = 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.map.containsKey(key);
+	}
+
+	@Override
+	public Set<Entry<Object, Object>> entrySet() {
+		this.resolveAll();
+		return this.map.entrySet();
+	}
+
+	@Override
+	public Object get(Object key) {
+		Object value = this.map.get(key);
+
+		if (value instanceof Range) {
+			this.pending--;
+			value = this.resolve((Range) value);
+			this.map.put(key, value);
+		}
+
+		return value;
+	}
+
+	@Override
+	public Set<Object> keySet() {
+		return this.map.keySet();
+	}
+
+	@Override
+	public Object put(Object key, Object value) {
+		Object old = this.map.put(key, value);
+
+		if (old instanceof Range) {
+			this.pending--;
+			return this.resolve((Range) old);
+		}
+
+		return old;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		Object old = this.map.remove(key);
+
+		if (old instanceof Range) {
+			this.pending--;
+			return this.resolve((Range) old);
+		}
+
+		return old;
+	}
+
+	@Override
+	public int size() {
+		return this.map.size();
+	}
+
+	@Override
+	public Collection<Object> values() {
+		this.resolveAll();
+		return this.map.values();
+	}
+
+	/**
+	 * Parse the value in the given range of the text of this.
+	 *
+	 * @param range the range of the value
+	 * @return the parsed value
+	 */
+	protected Object resolve(Range range) {
+		if (range.end - range.start == 1 && this.text.charAt(range.start) == '#')
+			return this;
+
+		return new JSONDecoder(this.json, this.text, range.start, range.end).decode();
+	}
+
+	/**
+	 * Parse all the values not parsed yet.
+	 */
+	protected void resolveAll() {
+		if (this.pending > 0)
+			for (Entry<Object, Object> entry : this.map.entrySet())
+				if (entry.getValue() instanceof Range) {
+					this.pending--;
+					entry.setValue(this.resolve((Range) entry.getValue()));
+				}
+	}
+
+	/**
+	 * Record the ranges of the values of the map the given decoder is at. Keys are parsed eagerly.
+	 *
+	 * @param decoder to scan the text of this with
+	 */
+	protected void scan(JSONDecoder decoder) {
+		int terminator = -1;
+
+		decoder.skipWhitespace();
+		if (decoder.position < decoder.limit && this.text.charAt(decoder.position) == '{') {
+			decoder.position++;
+			terminator = '}';
+		}
+
+		while (true) {
+			decoder.skipWhitespace();
+
+			if (decoder.position >= decoder.limit)
+				return;
+
+			char point = this.text.charAt(decoder.position);
+
+			if (point == terminator)
+				return;
+
+			switch (point) {
+				case ',':
+				case ':':
+				case '=':
+				case '}':
+				case ']':
+					//empty members and stray characters
+					decoder.position++;
+					continue;
+			}
+
+			Object key = decoder.readValue(this);
+			decoder.skipWhitespace();
+
+			if (decoder.position >= decoder.limit)
+				return;
+
+			point = this.text.charAt(decoder.position);
+
+			if (point == ':' || point == '=') {
+				decoder.position++;
+				decoder.skipWhitespace();
+
+				if (decoder.position < decoder.limit) {
+					point = this.text.charAt(decoder.position);
+
+					Object value;
+					if (point == ',' || point == terminator) {
+						//a key with no value
+						value = "";
+					} else {
+						int start = decoder.position;
+						decoder.skipValue();
+						value = new Range(start, decoder.position);
+						this.pending++;
+					}
+
+					//a duplicated key
+					if (this.map.put(key, value) instanceof Range)
+						this.pending--;
+				}
+			}
+			//a key with no separator will be ignored
+		}
+	}
+
+	/**
+	 * The range of a value not parsed yet.
+	 */
+	final protected static class Range {
+		/**
+		 * The index after the last character of the value.
+		 */
+		final int end;
+		/**
+		 * The index of the first character of the value.
+		 */
+		final int start;
+
+		/**
+		 * Initialize this.
+		 *
+		 * @param start the index of the first character of the value
+		 * @param end   the index after the last character of the value
+		 */
+		Range(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.json;
+
+import lsafer.util.StringParser;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A text parser for JSON Lines (NDJSON) files. Each record is written as a compact JSON text on its own line. So new records can be appended to
+ * the end of a file without rewriting it.
+ * <br><br><b>example:</b>
+ * <pre>
+ *     file.append(synchronizer, NDJSON.global, record);
+ *     NDJSON.global.forEach(file, record -&gt; ...);
+ * </pre>
+ * <p>
+ * Note: {@link #stringify(Object)} and {@link #write(Appendable, Object)} treat the given object as a single record. While {@link #parse(String)}
+ * returns an {@link ArrayList array} of all the records in the given text.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public class NDJSON extends StringParser {
+	/**
+	 * The global instance to avoid unnecessary instancing.
+	 */
+	final public static NDJSON global = new NDJSON();
+
+	/**
+	 * The parser to be used to parse/stringify each record.
+	 */
+	final public JSON json;
+
+	/**
+	 * Initialize this.
+	 */
+	public NDJSON() {
+		this(JSON.global);
+	}
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param json the parser to be used to parse/stringify each record (records are always written compact)
+	 */
+	public NDJSON(JSON json) {
+		this.json = json;
+	}
+
+	/**
+	 * Read the records of the given reader one by one. Blank lines are skipped.
+	 *
+	 * @param reader   to read the records from
+	 * @param consumer to be invoked with each record
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void forEach(Reader reader, Consumer<Object> consumer) throws IOException {
+		BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+
+		for (String line; (line = lines.readLine()) != null; )
+			if (!line.trim().isEmpty())
+				consumer.accept(new JSONDecoder(this.json, line).decode());
+	}
+
+	/**
+	 * Read the records of the given UTF-8 file one by one. Without loading the whole file to the memory.
+	 *
+	 * @param file     to read the records from
+	 * @param consumer to be invoked with each record
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void forEach(File file, Consumer<Object> consumer) throws IOException {
+		try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+			this.forEach(reader, consumer);
+		}
+	}
+
+	@Override
+	public ArrayList<Object> parse(String string) {
+		ArrayList<Object> records = new ArrayList<>();
+
+		int start = 0, length = string.length();
+		while (start < length) {
+			int end = string.indexOf('\n', start);
+
+			if (end == -1)
+				end = length;
+			if (!NDJSON.isBlank(string, start, end))
+				records.add(new JSONDecoder(this.json, string, start, end).decode());
+
+			start = end + 1;
+		}
+
+		return records;
+	}
+
+	/**
+	 * Read the records of the given UTF-8 file in parallel. The file is mapped to the memory. Then split into the given number of chunks at line
+	 * boundaries. And each chunk is decoded on its own thread (the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}).
+	 *
+	 * @param file        to read the records from
+	 * @param parallelism the number of chunks to split the file into
+	 * @return the records of the given file (in the order they are written in)
+	 * @throws IOException if an I/O error occurs
+	 */
+	public List<Object> parseParallel(File file, int parallelism) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		int limit = buffer.limit(), chunks = Math.max(1, Math.min(parallelism, limit / 4096 + 1));
+		int[] bounds = new int[chunks + 1];
+
+		//move each bound to the start of the next line
+		bounds[chunks] = limit;
+		for (int i = 1; i < chunks; i++) {
+			int bound = Math.max(bounds[i - 1], (int) ((long) limit * i / chunks));
+
+			while (bound < limit && bound > 0 && buffer.get(bound - 1) != '\n')
+				bound++;
+
+			bounds[i] = bound;
+		}
+
+		return IntStream.range(0, chunks)
+				.parallel()
+				.mapToObj(i -> this.parse(buffer, bounds[i], bounds[i + 1]))
+				.flatMap(List::stream)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Stringify the given object as a single record line. (including the line break)
+	 *
+	 * @param object to be stringed
+	 * @param shift  ignored. Records are always compact
+	 * @return a record line from the given object
+	 */
+	@Override
+	public String stringify(Object object, String shift) {
+		StringBuilder builder = new StringBuilder();
+
+		try {
+			this.write(builder, object);
+		} catch (IOException e) {
+			//StringBuilder don't throw
+			throw new RuntimeException(e);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Write the given object as a single record line. (including the line break)
+	 *
+	 * @param appendable to write the record to
+	 * @param object     the record to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void write(Appendable appendable, Object object) throws IOException {
+		new JSONWriter(this.json, appendable, true).write(object);
+		appendable.append('\n');
+	}
+
+	/**
+	 * Decode the records in the given range of the given buffer.
+	 *
+	 * @param buffer the UTF-8 bytes of the records
+	 * @param start  the index of the first byte of the range (should be the start of a line)
+	 * @param end    the index after the last byte of the range (should be the end of a line)
+	 * @return the records in the given range
+	 */
+	protected List<Object> parse(MappedByteBuffer buffer, int start, int end) {
+		List<Object> records = new ArrayList<>();
+
+		for (int i = start; i < end; ) {
+			int line = i;
+
+			while (i < end && buffer.get(i) != '\n')
+				i++;
+
+			if (!NDJSON.isBlank(buffer, line, i)) {
+				//a view for each line. So the decoders don't share any state
+				java.nio.ByteBuffer view = buffer.duplicate();
+				view.limit(i).position(line);
+				records.add(new JSONByteDecoder(this.json, view).decode());
+			}
+
+			i++;
+		}
+
+		return records;
+	}
+
+	/**
+	 * Check if the given range of the given buffer has only whitespaces.
+	 *
+	 * @param buffer to be checked
+	 * @param start  the start of the range (inclusive)
+	 * @param end    the end of the range (exclusive)
+	 * @return whether the given range is blank or not
+	 */
+	private static boolean isBlank(java.nio.ByteBuffer buffer, int start, int end) {
+		for (int i = start; i < end; i++)
+			if (!JSONDecoder.isWhitespace(buffer.get(i)))
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Check if the given range of the given text has only whitespaces.
+	 *
+	 * @param text  to be checked
+	 * @param start the start of the range (inclusive)
+	 * @param end   the end of the range (exclusive)
+	 * @return whether the given range is blank or not
+	 */
+	private static boolean isBlank(String text, int start, int end) {
+		for (int i = start; i < end; i++)
+			if (!JSONDecoder.isWhitespace(text.charAt(i)))
+				return false;
+
+		return true;
+	}
+}
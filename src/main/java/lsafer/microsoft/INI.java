@@ -10,6 +10,7 @@
  */
 package lsafer.microsoft;
 
+import lsafer.util.Numbers;
 import lsafer.util.StringParser;
 import lsafer.util.Strings;
 
@@ -22,7 +23,7 @@ import java.util.Map;
  * A Text parser for INI files.
  *
  * @author LSaferSE
- * @version 4 release (11-Oct-19)
+ * @version 5 release (17-Oct-2026)
  * @since 21-Jul-19
  */
 @SuppressWarnings({"unused", "WeakerAccess"})
@@ -49,7 +50,7 @@ public class INI extends StringParser {
 	 * @param string INI text to be checked
 	 * @return whether the passed INI text is a boolean or not
 	 */
-	@SwitchingMethod(Boolean.class)
+	@SwitchingMethod(value = Boolean.class, leading = "tf")
 	public boolean is_boolean(String string) {
 		return string.equals("true") || string.equals("false");
 	}
@@ -60,15 +61,9 @@ public class INI extends StringParser {
 	 * @param string INI text to be checked
 	 * @return whether the passed INI text is a double or not
 	 */
-	@SwitchingMethod(Double.class)
+	@SwitchingMethod(value = Double.class, leading = Numbers.LEADING)
 	public boolean is_double(String string) {
-		try {
-			Double.valueOf(string);
-			return !string.endsWith("f") &&
-				   string.contains(".");
-		} catch (Exception ignored) {
-			return false;
-		}
+		return Numbers.classify(string) == Numbers.DOUBLE;
 	}
 
 	/**
@@ -77,14 +72,9 @@ public class INI extends StringParser {
 	 * @param string INI text to be checked
 	 * @return whether the passed INI text is a float or not
 	 */
-	@SwitchingMethod(Float.class)
+	@SwitchingMethod(value = Float.class, leading = Numbers.LEADING)
 	public boolean is_float(String string) {
-		try {
-			Float.valueOf(string);
-			return string.toUpperCase().endsWith("F");
-		} catch (Exception ignored) {
-			return false;
-		}
+		return Numbers.classify(string) == Numbers.FLOAT;
 	}
 
 	/**
@@ -93,16 +83,9 @@ public class INI extends StringParser {
 	 * @param string INI text to be checked
 	 * @return whether the passed INI text is an integer or not
 	 */
-	@SwitchingMethod(Integer.class)
+	@SwitchingMethod(value = Integer.class, leading = Numbers.LEADING)
 	public boolean is_integer(String string) {
-		try {
-			Integer.valueOf(string);
-			return !string.endsWith("L") &&
-				   !string.endsWith("f") &&
-				   !string.contains(".");
-		} catch (Exception e) {
-			return false;
-		}
+		return Numbers.classify(string) == Numbers.INTEGER;
 	}
 
 	/**
@@ -111,15 +94,9 @@ public class INI extends StringParser {
 	 * @param string INI text to be checked
 	 * @return whether the passed INI text is an long or not
 	 */
-	@SwitchingMethod(Long.class)
+	@SwitchingMethod(value = Long.class, leading = Numbers.LEADING)
 	public boolean is_long(String string) {
-		try {
-			Long.valueOf(string);
-			return string.toUpperCase().endsWith("L") &&
-				   !string.contains(".");
-		} catch (Exception ignored) {
-			return false;
-		}
+		return Numbers.classify(string) == Numbers.LONG;
 	}
 
 	/**
@@ -168,7 +145,8 @@ public class INI extends StringParser {
 	 */
 	@ParsingMethod
 	public Double parse_double(String string) {
-		return Double.valueOf(string);
+		Number number = Numbers.parse(string);
+		return number == null ? Double.valueOf(string) : number.doubleValue();
 	}
 
 	/**
@@ -179,7 +157,8 @@ public class INI extends StringParser {
 	 */
 	@ParsingMethod
 	public Float parse_float(String string) {
-		return Float.valueOf(string);
+		Number number = Numbers.parse(string);
+		return number == null ? Float.valueOf(string) : number.floatValue();
 	}
 
 	/**
@@ -190,7 +169,8 @@ public class INI extends StringParser {
 	 */
 	@ParsingMethod
 	public Integer parse_integer(String string) {
-		return Integer.valueOf(string);
+		Number number = Numbers.parse(string);
+		return number == null ? Integer.valueOf(string) : number.intValue();
 	}
 
 	/**
@@ -201,7 +181,8 @@ public class INI extends StringParser {
 	 */
 	@ParsingMethod
 	public Long parse_long(String string) {
-		return Long.valueOf(string);
+		Number number = Numbers.parse(string);
+		return number == null ? Long.valueOf(string) : number.longValue();
 	}
 
 	/**
@@ -217,16 +198,29 @@ public class INI extends StringParser {
 		HashMap<String, Object> main = new HashMap<>();
 		HashMap<String, Object> inner = main;
 
-		for (String line : string.split("\n"))
-			if (line.length() > 2 && line.charAt(0) != ';')
-				if (line.charAt(0) == '[' && line.charAt(line.length() - 1) == ']') {
-					main.put(Strings.crop(line, 1, 1), inner = new HashMap<>());
+		//the keys and the values are taken from the text directly. So only the strings that are not pooled yet are created
+		for (int start = 0, end, length = string.length(); start < length; start = end + 1) {
+			end = string.indexOf('\n', start);
+			if (end == -1)
+				end = length;
+
+			if (end - start > 2 && string.charAt(start) != ';')
+				if (string.charAt(start) == '[' && string.charAt(end - 1) == ']') {
+					main.put(this.string(string, start + 1, end - 1), inner = new HashMap<>());
 				} else {
-					String[] split = line.split("=");
+					int separator = string.indexOf('=', start);
+
+					//exactly one separator. Followed by a value
+					if (separator != -1 && separator < end - 1 && string.lastIndexOf('=', end - 1) == separator) {
+						//numeric values are parsed into numbers. So their texts are not pooled
+						String value = Numbers.LEADING.indexOf(string.charAt(separator + 1)) == -1 ?
+									   this.string(string, separator + 1, end) :
+									   string.substring(separator + 1, end);
 
-					if (split.length == 2)
-						inner.put(split[0], this.parse(split[1]));
+						inner.put(this.string(string, start, separator), this.parse(value));
+					}
 				}
+		}
 
 		return main;
 	}
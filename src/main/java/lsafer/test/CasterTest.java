@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.test;
+
+import lsafer.util.Caster;
+import lsafer.util.DefaultCaster;
+
+import java.math.BigDecimal;
+
+/**
+ * Caster test.
+ *
+ * @author LSaferSE
+ * @version 1
+ * @since 17-Oct-2026
+ */
+@SuppressWarnings({"ALL"})
+public class CasterTest {
+	public static void main(String[] args) {
+		castLongOutOfRange();
+		castNotANumber();
+		System.out.println("Caster test passed");
+	}
+
+	/**
+	 * Check that the numbers out of the range of longs are casted to zero. Like {@link Caster#cast(Class, Object)} (that returns null) does.
+	 */
+	public static void castLongOutOfRange() {
+		Caster caster = DefaultCaster.global;
+
+		check(caster.castLong(new BigDecimal("1e30")) == 0, "castLong(BigDecimal 1e30)");
+		check(caster.castLong(1e30) == 0, "castLong(Double 1e30)");
+		check(caster.cast(Long.class, new BigDecimal("1e30")) == null, "cast(Long, BigDecimal 1e30)");
+		check(caster.castLong(new BigDecimal("12.7")) == 12, "castLong(BigDecimal 12.7)");
+		check(caster.castLong(-12.7) == -12, "castLong(Double -12.7)");
+		check(caster.castLong(Long.MAX_VALUE) == Long.MAX_VALUE, "castLong(Long.MAX_VALUE)");
+	}
+
+	/**
+	 * Check that the strings that are not numbers are casted to null. By all the number types.
+	 */
+	public static void castNotANumber() {
+		Caster caster = DefaultCaster.global;
+
+		for (Class<?> klass : new Class[]{Integer.class, Long.class, Float.class, Double.class})
+			check(caster.cast(klass, "abc") == null, "cast(" + klass.getSimpleName() + ", \"abc\")");
+
+		check(caster.cast(Double.class, "1.1f") == 1.1, "cast(Double, \"1.1f\")");
+		check(caster.cast(Float.class, "0.1") == 0.1f, "cast(Float, \"0.1\")");
+	}
+
+	/**
+	 * Throw an {@link AssertionError} if the given condition is false.
+	 *
+	 * @param condition to be checked
+	 * @param message   the description of the checked condition
+	 */
+	static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.test;
+
+import lsafer.json.JSON;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON test.
+ *
+ * @author LSaferSE
+ * @version 1
+ * @since 17-Oct-2026
+ */
+@SuppressWarnings({"ALL"})
+public class JSONTest {
+	public static void main(String[] args) {
+		parseMapOverride();
+		System.out.println("JSON test passed");
+	}
+
+	/**
+	 * Check that a parser that overrides {@link JSON#parse_map(String)} gets it invoked. For the top-level map and the nested ones. (the override
+	 * is annotated. Like any parsing method)
+	 */
+	public static void parseMapOverride() {
+		JSON json = new JSON() {
+			@Override
+			@ParsingMethod
+			public HashMap<Object, Object> parse_map(String string) {
+				HashMap<Object, Object> map = super.parse_map(string);
+				map.put("marked", true);
+				return map;
+			}
+		};
+		String text = "{\"a\": {\"b\": 1}, \"c\": [{}, 2]}";
+
+		for (Object object : new Object[]{json.parse(text), json.parse(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)))}) {
+			Map<?, ?> map = (Map<?, ?>) object;
+			List<?> list = (List<?>) map.get("c");
+
+			check(map.get("marked") == Boolean.TRUE, "the top-level map");
+			check(((Map<?, ?>) map.get("a")).get("marked") == Boolean.TRUE, "a map in a map");
+			check(((Map<?, ?>) list.get(0)).get("marked") == Boolean.TRUE, "a map in an array");
+			check(((Map<?, ?>) map.get("a")).get("b").equals(1), "a value in a nested map");
+			check(list.get(1).equals(2), "a value in an array");
+		}
+
+		check(JSON.global.parse(text) instanceof HashMap && !((Map<?, ?>) JSON.global.parse(text)).containsKey("marked"), "the global parser");
+	}
+
+	/**
+	 * Throw an {@link AssertionError} if the given condition is false.
+	 *
+	 * @param condition to be checked
+	 * @param message   the description of the checked condition
+	 */
+	static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
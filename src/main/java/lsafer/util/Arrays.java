@@ -18,7 +18,7 @@ import java.util.function.Function;
  * Useful methods for Arrays.
  *
  * @author LSafer
- * @version 5 release (28-Sep-2019)
+ * @version 6 release (17-Oct-2026)
  * @since 11 Jun 2019
  */
 final public class Arrays {
@@ -159,6 +159,7 @@ final public class Arrays {
 	 * @param <T>   type of the elements inside the fixed array
 	 * @return fixed array from the given array, or the given array if it's already fixed
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> T[] objective(Object array) {
 		if (!array.getClass().isArray())
 			throw new RuntimeException(array + " is not an array");
@@ -169,6 +170,35 @@ final public class Arrays {
 			if (!c.isArray() && Object.class.isAssignableFrom(c))
 				return (T[]) array;
 
+		//the common primitive arrays are boxed in a tight loop. Instead of reflectively element by element
+		if (array instanceof int[]) {
+			int[] source = (int[]) array;
+			Integer[] boxed = new Integer[source.length];
+
+			for (int i = 0; i < source.length; i++)
+				boxed[i] = source[i];
+
+			return (T[]) boxed;
+		}
+		if (array instanceof long[]) {
+			long[] source = (long[]) array;
+			Long[] boxed = new Long[source.length];
+
+			for (int i = 0; i < source.length; i++)
+				boxed[i] = source[i];
+
+			return (T[]) boxed;
+		}
+		if (array instanceof double[]) {
+			double[] source = (double[]) array;
+			Double[] boxed = new Double[source.length];
+
+			for (int i = 0; i < source.length; i++)
+				boxed[i] = source[i];
+
+			return (T[]) boxed;
+		}
+
 		int length = Array.getLength(array);
 
 		T[] array1 = (T[]) Array.newInstance(Classes.objective(type), length);
@@ -14,10 +14,11 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 /**
  * A class that contains a casting methods that designed to cast for each casting situation.
@@ -25,14 +26,29 @@ import java.util.Map;
  * Each casting method is (suppose to be) designed to be invoked by {@link #cast(Class, Object, boolean)} ) the main dynamic casting method}.
  *
  * @author LSaferSE
- * @version 5 release (11-Oct-19)
+ * @version 7 release (17-Oct-2026)
  * @since 31-Aug-19
  */
 public abstract class Caster {
 	/**
-	 * To avoid repetitive method searching.
+	 * The compiled dispatch tables of the caster classes. (computed once for each class)
 	 */
-	final protected Map<String, Method> casters = new HashMap<>();
+	final private static ClassValue<Dispatcher> dispatchers = new ClassValue<Dispatcher>() {
+		@Override
+		protected Dispatcher computeValue(Class<?> type) {
+			Dispatcher dispatcher = Dispatcher.generated(type);
+			return dispatcher == null ? Dispatcher.reflect(type) : dispatcher;
+		}
+	};
+	/**
+	 * Whether each class implements {@link User} or not. (a failing 'instanceof' check against an interface is not cached by the JVM)
+	 */
+	final private static ClassValue<Boolean> users = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return User.class.isAssignableFrom(type);
+		}
+	};
 
 	/**
 	 * Cast the given Object to the targeted class. By searching for a matching method then invoke it then return the results of it.
@@ -40,7 +56,7 @@ public abstract class Caster {
 	 * <ul>
 	 * <li>
 	 * note: after finding a matching method. It'll be stored for next time casts so
-	 * the next casts will be faster. (using {@link #casters Methods Map}.
+	 * the next casts will be faster. (using the {@link Dispatcher#solved solved methods table} of the class of this caster).
 	 * </li>
 	 * </ul>
 	 *
@@ -53,30 +69,26 @@ public abstract class Caster {
 	public <T> T cast(Class<T> klass, Object object, boolean clone) {
 		if (object == null || (!clone && klass.isInstance(object)))
 			return (T) object;
-		if (object.getClass().isArray() && !(object instanceof Object[]))
-			object = Arrays.objective(object);
 
-		if (object instanceof User) {
+		//the users cast themselves first. Even to primitive arrays
+		if (Caster.users.get(object.getClass())) {
 			T casted = ((User) object).castTo(klass);
 			if (casted != null)
 				return casted;
 		}
 
-		klass = (Class<T>) Classes.objective(klass);
-		Method method = this.queryCastingMethod(object.getClass(), klass);
-		if (method != null)
-			try {
-				switch (method.getParameters().length) {
-					case 1:
-						return klass.cast(method.invoke(this, object));
-					case 2:
-						return klass.cast(method.invoke(this, klass, object));
-				}
-			} catch (IllegalAccessException | InvocationTargetException e) {
-				throw new RuntimeException(e);
-			}
+		if (klass == int[].class)
+			return klass.cast(this.castInts(object));
+		if (klass == long[].class)
+			return klass.cast(this.castLongs(object));
+		if (klass == double[].class)
+			return klass.cast(this.castDoubles(object));
+		if (object.getClass().isArray() && !(object instanceof Object[]))
+			object = Arrays.objective(object);
 
-		return null;
+		klass = (Class<T>) Classes.objective(klass);
+		Dispatcher.Casting casting = this.queryCasting(object.getClass(), klass);
+		return casting == null ? null : klass.cast(casting.invoker.cast(this, klass, object));
 	}
 
 	/**
@@ -85,7 +97,7 @@ public abstract class Caster {
 	 * <ul>
 	 * <li>
 	 * note: after finding a matching method. It'll be stored for next time casts so
-	 * the next casts will be faster. (using {@link #casters Methods Map}.
+	 * the next casts will be faster. (using the {@link Dispatcher#solved solved methods table} of the class of this caster).
 	 * </li>
 	 * </ul>
 	 *
@@ -99,59 +111,246 @@ public abstract class Caster {
 	}
 
 	/**
-	 * Find a method that casts any of the given 'input' class. to the given 'output' class.
+	 * Cast the given object to a boolean. Without casting if it's already a boolean.
 	 *
-	 * @param input  type that the targeted method can cast
-	 * @param output type that the targeted method can return
-	 * @return a method that casts the given input class to the given output class
+	 * @param object to be casted
+	 * @return the given object as a boolean. Or false if it's null or can't be casted
 	 */
-	public Method queryCastingMethod(Class<?> input, Class<?> output) {
-		output = Classes.objective(output);
-		input = Classes.objective(input);
+	public boolean castBoolean(Object object) {
+		if (object instanceof Boolean)
+			return (Boolean) object;
 
-		String key = input.getName() + output.getName();
+		Boolean value = object == null ? null : this.cast(Boolean.class, object);
+		return value != null && value;
+	}
 
-		if (this.casters.containsKey(key))
-			return this.casters.get(key);
+	/**
+	 * Cast the given object to a double. Without casting if it's already a number.
+	 *
+	 * @param object to be casted
+	 * @return the given object as a double. Or zero if it's null or can't be casted
+	 */
+	public double castDouble(Object object) {
+		if (object instanceof Number)
+			return ((Number) object).doubleValue();
 
-		query:
-		for (Method method : this.getClass().getMethods()) {
-			CastingMethod annotation = method.getAnnotation(CastingMethod.class);
+		Double value = object == null ? null : this.cast(Double.class, object);
+		return value == null ? 0 : value;
+	}
 
-			if (annotation == null)
-				continue;
+	/**
+	 * Cast the given array or collection to an array of doubles. In a single loop. Without boxing the elements of primitive arrays.
+	 * <br>
+	 * The elements that are not doubles are casted using {@link #cast(Class, Object)}. And the elements that can't be casted are zeros.
+	 *
+	 * @param object the array or the collection to be casted (or any object this caster can cast to an {@link Object Object[]})
+	 * @return a new array of the elements of the given object as doubles. Or null if the given object can't be casted to an array
+	 */
+	public double[] castDoubles(Object object) {
+		if (object instanceof double[])
+			return ((double[]) object).clone();
+		if (object instanceof int[]) {
+			int[] source = (int[]) object;
+			double[] array = new double[source.length];
 
-			Class<?>[] params = method.getParameterTypes();
-			Class<?> param;
+			for (int i = 0; i < source.length; i++)
+				array[i] = source[i];
 
-			switch (params.length) {
-				case 1:
-					param = params[0];
-					break;
-				case 2:
-					param = params[1];
-					break;
-				default:
-					continue;
-			}
+			return array;
+		}
+		if (object instanceof long[]) {
+			long[] source = (long[]) object;
+			double[] array = new double[source.length];
+
+			for (int i = 0; i < source.length; i++)
+				array[i] = source[i];
+
+			return array;
+		}
+
+		Object[] source = this.elements(object);
+
+		if (source == null)
+			return null;
+
+		double[] array = new double[source.length];
+
+		for (int i = 0; i < source.length; i++)
+			array[i] = this.castDouble(source[i]);
+
+		return array;
+	}
+
+	/**
+	 * Cast the given object to an integer. Without casting if it's already an integer.
+	 *
+	 * @param object to be casted
+	 * @return the given object as an integer. Or zero if it's null or can't be casted
+	 */
+	public int castInt(Object object) {
+		if (object instanceof Integer)
+			return (Integer) object;
 
-			if (!param.isAssignableFrom(input))
-				continue;
+		Integer value = object == null ? null : this.cast(Integer.class, object);
+		return value == null ? 0 : value;
+	}
+
+	/**
+	 * Cast the given array or collection to an array of integers. In a single loop. Without boxing the elements of primitive arrays.
+	 * <br>
+	 * The elements that are not integers are casted using {@link #cast(Class, Object)}. And the elements that can't be casted (or are out of the
+	 * range of integers) are zeros. (the fractions of doubles are truncated)
+	 *
+	 * @param object the array or the collection to be casted (or any object this caster can cast to an {@link Object Object[]})
+	 * @return a new array of the elements of the given object as integers. Or null if the given object can't be casted to an array
+	 */
+	public int[] castInts(Object object) {
+		if (object instanceof int[])
+			return ((int[]) object).clone();
+		if (object instanceof long[]) {
+			long[] source = (long[]) object;
+			int[] array = new int[source.length];
 
-			Class<?> type = method.getReturnType();
+			for (int i = 0; i < source.length; i++)
+				if (source[i] >= Integer.MIN_VALUE && source[i] <= Integer.MAX_VALUE)
+					array[i] = (int) source[i];
 
-			for (Class<?> excluded : annotation.exclude())
-				if (excluded.isAssignableFrom(output))
-					continue query;
+			return array;
+		}
+		if (object instanceof double[]) {
+			double[] source = (double[]) object;
+			int[] array = new int[source.length];
 
-			if (type != output && !(annotation.subs() && type.isAssignableFrom(output)) && !(annotation.supers() && output.isAssignableFrom(type)))
-				continue;
+			//NaN fails both comparisons
+			for (int i = 0; i < source.length; i++)
+				if (source[i] > Integer.MIN_VALUE - 1d && source[i] < Integer.MAX_VALUE + 1d)
+					array[i] = (int) source[i];
 
-			this.casters.put(key, method);
-			return method;
+			return array;
 		}
 
-		return null;
+		Object[] source = this.elements(object);
+
+		if (source == null)
+			return null;
+
+		int[] array = new int[source.length];
+
+		for (int i = 0; i < source.length; i++)
+			array[i] = this.castInt(source[i]);
+
+		return array;
+	}
+
+	/**
+	 * Cast the given object to a long. Without casting if it's already an integral number. (the fractions of the other numbers are truncated)
+	 *
+	 * @param object to be casted
+	 * @return the given object as a long. Or zero if it's null or can't be casted (or out of the range of longs)
+	 */
+	public long castLong(Object object) {
+		if (object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte)
+			return ((Number) object).longValue();
+
+		Long value = object == null ? null : this.cast(Long.class, object);
+		return value == null ? 0 : value;
+	}
+
+	/**
+	 * Cast the given array or collection to an array of longs. In a single loop. Without boxing the elements of primitive arrays.
+	 * <br>
+	 * The elements that are not longs are casted using {@link #cast(Class, Object)}. And the elements that can't be casted (or are out of the range
+	 * of longs) are zeros. (the fractions of doubles are truncated)
+	 *
+	 * @param object the array or the collection to be casted (or any object this caster can cast to an {@link Object Object[]})
+	 * @return a new array of the elements of the given object as longs. Or null if the given object can't be casted to an array
+	 */
+	public long[] castLongs(Object object) {
+		if (object instanceof long[])
+			return ((long[]) object).clone();
+		if (object instanceof int[]) {
+			int[] source = (int[]) object;
+			long[] array = new long[source.length];
+
+			for (int i = 0; i < source.length; i++)
+				array[i] = source[i];
+
+			return array;
+		}
+		if (object instanceof double[]) {
+			double[] source = (double[]) object;
+			long[] array = new long[source.length];
+
+			//2^63 is exact as a double. NaN fails both comparisons
+			for (int i = 0; i < source.length; i++)
+				if (source[i] >= -0x1p63 && source[i] < 0x1p63)
+					array[i] = (long) source[i];
+
+			return array;
+		}
+
+		Object[] source = this.elements(object);
+
+		if (source == null)
+			return null;
+
+		long[] array = new long[source.length];
+
+		for (int i = 0; i < source.length; i++)
+			array[i] = this.castLong(source[i]);
+
+		return array;
+	}
+
+	/**
+	 * Get the compiled dispatch table of the class of this caster.
+	 *
+	 * @return the dispatch table of this caster
+	 */
+	protected Dispatcher dispatcher() {
+		return Caster.dispatchers.get(this.getClass());
+	}
+
+	/**
+	 * Find the casting method that casts the given 'input' class. to the given 'output' class. (solved once for each pair)
+	 *
+	 * @param input  type that the targeted method can cast (not primitive)
+	 * @param output type that the targeted method can return (not primitive)
+	 * @return the casting method for the given pair. Or null if this caster don't have one
+	 */
+	protected Dispatcher.Casting queryCasting(Class<?> input, Class<?> output) {
+		return this.dispatcher().casting(input, output);
+	}
+
+	/**
+	 * Find a method that casts any of the given 'input' class. to the given 'output' class.
+	 *
+	 * @param input  type that the targeted method can cast
+	 * @param output type that the targeted method can return
+	 * @return a method that casts the given input class to the given output class
+	 */
+	public Method queryCastingMethod(Class<?> input, Class<?> output) {
+		Dispatcher.Casting casting = this.queryCasting(Classes.objective(input), Classes.objective(output));
+		return casting == null ? null : casting.method(this.getClass());
+	}
+
+	/**
+	 * Get the elements of the given array or collection.
+	 *
+	 * @param object the array or the collection (or any object this caster can cast to an {@link Object Object[]})
+	 * @return the elements of the given object. Or null if the given object can't be casted to an array
+	 */
+	private Object[] elements(Object object) {
+		if (object == null)
+			return null;
+		if (object instanceof Object[])
+			return (Object[]) object;
+		if (object instanceof Collection)
+			return ((Collection<?>) object).toArray();
+		if (object.getClass().isArray())
+			return Arrays.objective(object);
+
+		return this.cast(Object[].class, object);
 	}
 
 	/**
@@ -190,6 +389,277 @@ public abstract class Caster {
 		boolean supers() default false;
 	}
 
+	/**
+	 * The casting methods of a caster class. Compiled once. So casting needs no reflection.
+	 * <br>
+	 * A caster class can have a generated dispatcher (see lsafer.processor.DispatcherProcessor). A class in the same package named after the
+	 * caster class with the suffix "_Dispatcher" that extends this class. If the generated dispatcher is not found, the annotated methods of the
+	 * caster class are compiled into method handles at runtime.
+	 */
+	public static class Dispatcher {
+		/**
+		 * The type of the casting handles. (caster, class, object) -&gt; object
+		 */
+		final private static MethodType CASTING = MethodType.methodType(Object.class, Caster.class, Class.class, Object.class);
+
+		/**
+		 * The casting methods. Ordered by their names.
+		 */
+		final private Casting[] castings;
+		/**
+		 * The casting method solved for each input type then for each output type. (empty if there is none)
+		 */
+		final private ClassValue<ClassValue<Optional<Casting>>> solved = new ClassValue<ClassValue<Optional<Casting>>>() {
+			@Override
+			protected ClassValue<Optional<Casting>> computeValue(Class<?> input) {
+				return new ClassValue<Optional<Casting>>() {
+					@Override
+					protected Optional<Casting> computeValue(Class<?> output) {
+						return Optional.ofNullable(Dispatcher.this.solve(input, output));
+					}
+				};
+			}
+		};
+
+		/**
+		 * Initialize this. The given methods can be in any order.
+		 *
+		 * @param castings the casting methods
+		 */
+		protected Dispatcher(Casting[] castings) {
+			castings = castings.clone();
+
+			//a deterministic order. Regardless of the order the methods are found in
+			java.util.Arrays.sort(castings, Comparator.comparing((Casting c) -> c.name).thenComparing(Casting::signature));
+
+			this.castings = castings;
+		}
+
+		/**
+		 * Get the generated dispatcher of the given caster class.
+		 *
+		 * @param klass the caster class
+		 * @return the generated dispatcher of the given class. Or null if it has none
+		 */
+		public static Dispatcher generated(Class<?> klass) {
+			try {
+				return Class.forName(klass.getName() + "_Dispatcher", true, klass.getClassLoader())
+						.asSubclass(Dispatcher.class)
+						.getConstructor()
+						.newInstance();
+			} catch (ClassNotFoundException | ClassCastException ignored) {
+				return null;
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Compile the annotated methods of the given caster class into method handles.
+		 *
+		 * @param klass the caster class
+		 * @return a dispatcher of the annotated methods of the given class
+		 */
+		public static Dispatcher reflect(Class<?> klass) {
+			List<Casting> castings = new ArrayList<>();
+
+			for (Method method : klass.getMethods()) {
+				CastingMethod annotation = method.getAnnotation(CastingMethod.class);
+
+				if (annotation == null || method.getParameterCount() < 1 || method.getParameterCount() > 2)
+					continue;
+
+				try {
+					//the declaring class may not be public (ex. anonymous casters)
+					method.setAccessible(true);
+				} catch (RuntimeException ignored) {
+				}
+
+				MethodHandle handle;
+				try {
+					handle = MethodHandles.lookup().unreflect(method);
+				} catch (IllegalAccessException e) {
+					throw new RuntimeException(e);
+				}
+
+				handle = method.getParameterCount() == 1 ?
+						 MethodHandles.dropArguments(handle.asType(CASTING.dropParameterTypes(1, 2)), 1, Class.class) :
+						 handle.asType(CASTING);
+
+				MethodHandle invoker = handle;
+				castings.add(new Casting(method.getName(), method.getParameterTypes(), method.getReturnType(), annotation.exclude(), annotation.subs(),
+						annotation.supers(), (caster, type, object) -> {
+					try {
+						return (Object) invoker.invokeExact(caster, type, object);
+					} catch (RuntimeException | Error e) {
+						throw e;
+					} catch (Throwable e) {
+						throw new RuntimeException(e);
+					}
+				}));
+			}
+
+			return new Dispatcher(castings.toArray(new Casting[0]));
+		}
+
+		/**
+		 * Get the casting method that casts the given 'input' class. to the given 'output' class. (solved once for each pair)
+		 *
+		 * @param input  type that the targeted method can cast (not primitive)
+		 * @param output type that the targeted method can return (not primitive)
+		 * @return the casting method for the given pair. Or null if there is none
+		 */
+		public Casting casting(Class<?> input, Class<?> output) {
+			return this.solved.get(input).get(output).orElse(null);
+		}
+
+		/**
+		 * Get the casting methods of this dispatcher.
+		 *
+		 * @return an unmodifiable list of the casting methods. Ordered by their names
+		 */
+		public List<Casting> castings() {
+			return java.util.Collections.unmodifiableList(java.util.Arrays.asList(this.castings));
+		}
+
+		/**
+		 * Find the casting method that casts the given 'input' class. to the given 'output' class.
+		 *
+		 * @param input  type that the targeted method can cast (not primitive)
+		 * @param output type that the targeted method can return (not primitive)
+		 * @return the casting method for the given pair. Or null if there is none
+		 */
+		public Casting solve(Class<?> input, Class<?> output) {
+			for (Casting casting : this.castings)
+				if (casting.accepts(input, output))
+					return casting;
+
+			return null;
+		}
+
+		/**
+		 * A casting method.
+		 */
+		final public static class Casting {
+			/**
+			 * Output classes that the casting method dose not support.
+			 */
+			final public Class<?>[] exclude;
+			/**
+			 * The type the casting method accepts.
+			 */
+			final public Class<?> input;
+			/**
+			 * The invoker of the casting method.
+			 */
+			final public Invoker invoker;
+			/**
+			 * The name of the casting method.
+			 */
+			final public String name;
+			/**
+			 * The parameter types of the casting method.
+			 */
+			final public Class<?>[] parameters;
+			/**
+			 * Whether the casting method supports the subclasses of the type it returns.
+			 */
+			final public boolean subs;
+			/**
+			 * Whether the casting method supports the superclasses of the type it returns.
+			 */
+			final public boolean supers;
+			/**
+			 * The type the casting method returns.
+			 */
+			final public Class<?> type;
+
+			/**
+			 * Initialize this.
+			 *
+			 * @param name       the name of the casting method
+			 * @param parameters the parameter types of the casting method. (optionally the class. Then the object)
+			 * @param type       the type the casting method returns
+			 * @param exclude    output classes that the casting method dose not support
+			 * @param subs       whether the casting method supports the subclasses of the type it returns
+			 * @param supers     whether the casting method supports the superclasses of the type it returns
+			 * @param invoker    the invoker of the casting method
+			 */
+			public Casting(String name, Class<?>[] parameters, Class<?> type, Class<?>[] exclude, boolean subs, boolean supers, Invoker invoker) {
+				this.name = name;
+				this.parameters = parameters;
+				this.input = parameters[parameters.length - 1];
+				this.type = type;
+				this.exclude = exclude;
+				this.subs = subs;
+				this.supers = supers;
+				this.invoker = invoker;
+			}
+
+			/**
+			 * Check if the casting method can cast the given 'input' class. to the given 'output' class.
+			 *
+			 * @param input  type to be casted (not primitive)
+			 * @param output type to be casted to (not primitive)
+			 * @return whether the casting method can cast the given input class to the given output class or not
+			 */
+			public boolean accepts(Class<?> input, Class<?> output) {
+				if (!this.input.isAssignableFrom(input))
+					return false;
+
+				for (Class<?> excluded : this.exclude)
+					if (excluded.isAssignableFrom(output))
+						return false;
+
+				return this.type == output || this.subs && this.type.isAssignableFrom(output) || this.supers && output.isAssignableFrom(this.type);
+			}
+
+			/**
+			 * Get the reflected method of this.
+			 *
+			 * @param klass the caster class
+			 * @return the method of this in the given class
+			 */
+			public Method method(Class<?> klass) {
+				try {
+					return klass.getMethod(this.name, this.parameters);
+				} catch (NoSuchMethodException e) {
+					throw new RuntimeException(e);
+				}
+			}
+
+			/**
+			 * Get the names of the parameter types of this.
+			 *
+			 * @return the names of the parameter types of this
+			 */
+			String signature() {
+				StringBuilder builder = new StringBuilder();
+
+				for (Class<?> parameter : this.parameters)
+					builder.append(parameter.getName()).append(',');
+
+				return builder.toString();
+			}
+
+			/**
+			 * Invokes a casting method.
+			 */
+			@FunctionalInterface
+			public interface Invoker {
+				/**
+				 * Invoke the casting method.
+				 *
+				 * @param caster the caster to invoke the method on
+				 * @param klass  the class to cast the object to
+				 * @param object to be casted
+				 * @return the casted object
+				 */
+				Object cast(Caster caster, Class<?> klass, Object object);
+			}
+		}
+	}
+
 	/**
 	 * Defines that the implement class is a {@link Caster} user.
 	 */
@@ -11,18 +11,41 @@
 package lsafer.util;
 
 import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
 
 /**
  * Default casting engine that supports this library.
  *
  * @author LSaferSE
- * @version 2 release (02-Nov-2019)
+ * @version 4 release (17-Oct-2026)
  * @since 31-Aug-19
  */
 public class DefaultCaster extends Caster {
@@ -31,6 +54,33 @@ public class DefaultCaster extends Caster {
 	 */
 	final public static DefaultCaster global = new DefaultCaster();
 
+	/**
+	 * The classes that have a constructor that takes the number of the elements to be hold. (not a capacity. Only these exact classes. Since
+	 * the int constructor of a subclass can mean anything)
+	 */
+	final private static Class<?>[] COUNTED = {ArrayDeque.class, ArrayList.class, ConcurrentHashMap.class, IdentityHashMap.class, Vector.class};
+	/**
+	 * The classes that have a constructor that takes the capacity of the hash table to be allocated. (with the default load factor. Only these
+	 * exact classes)
+	 */
+	final private static Class<?>[] HASHED = {HashMap.class, HashSet.class, Hashtable.class, WeakHashMap.class};
+	/**
+	 * The implementations to be instanced for the interfaces and the abstract classes. Ordered by their precedence.
+	 */
+	final private static Class<?>[] IMPLEMENTATIONS = {ArrayList.class, HashSet.class, TreeSet.class, LinkedList.class, HashMap.class, TreeMap.class,
+													   ConcurrentHashMap.class};
+
+	/**
+	 * The factories of the collection and map classes. That take the number of the elements to be hold by the new instance. (solved once for
+	 * each class)
+	 */
+	final private static ClassValue<IntFunction<Object>> factories = new ClassValue<IntFunction<Object>>() {
+		@Override
+		protected IntFunction<Object> computeValue(Class<?> type) {
+			return DefaultCaster.factory(type);
+		}
+	};
+
 	/**
 	 * Just like {@link #cast(Class, Object)} but in an array foreach element in the passed array.
 	 *
@@ -62,13 +112,9 @@ public class DefaultCaster extends Caster {
 	 */
 	@Caster.CastingMethod(subs = true)
 	public <C extends Collection<E>, E> C array2collection(Class<? super C> klass, E[] array) {
-		try {
-			C collection = (C) klass.getDeclaredConstructor(new Class[0]).newInstance();
-			collection.addAll(java.util.Arrays.asList(array));
-			return collection;
-		} catch (IllegalAccessException | InstantiationException | NoSuchMethodException | InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
+		C collection = (C) DefaultCaster.factories.get(klass).apply(array.length);
+		collection.addAll(java.util.Arrays.asList(array));
+		return collection;
 	}
 
 	/**
@@ -83,16 +129,12 @@ public class DefaultCaster extends Caster {
 	 */
 	@Caster.CastingMethod(subs = true)
 	public <M extends Map<? super Integer, V>, V> M array2map(Class<? super M> klass, V[] array) {
-		try {
-			M map = (M) klass.getDeclaredConstructor(new Class[0]).newInstance();
+		M map = (M) DefaultCaster.factories.get(klass).apply(array.length);
 
-			for (int i = 0; i < array.length; i++)
-				map.put(i, array[i]);
+		for (int i = 0; i < array.length; i++)
+			map.put(i, array[i]);
 
-			return map;
-		} catch (IllegalAccessException | InstantiationException | NoSuchMethodException | InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
+		return map;
 	}
 
 	/**
@@ -126,17 +168,13 @@ public class DefaultCaster extends Caster {
 	 */
 	@Caster.CastingMethod(subs = true)
 	public <M extends Map<? super Integer, V>, V> M collection2map(Class<? super M> klass, Collection<V> collection) {
-		try {
-			M map = (M) klass.getDeclaredConstructor(new Class[0]).newInstance();
+		M map = (M) DefaultCaster.factories.get(klass).apply(collection.size());
 
-			int i = 0;
-			for (V element : collection)
-				map.put(i++, element);
+		int i = 0;
+		for (V element : collection)
+			map.put(i++, element);
 
-			return map;
-		} catch (IllegalAccessException | InstantiationException | NoSuchMethodException | InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
+		return map;
 	}
 
 	/**
@@ -167,7 +205,7 @@ public class DefaultCaster extends Caster {
 	 */
 	@Caster.CastingMethod(subs = true)
 	public <V> V[] map2array(Class<? super V[]> klass, Map<?, V> map) {
-		return this.<ArrayList<V>, V>map2list(ArrayList.class, map).toArray((V[]) Array.newInstance(klass.getComponentType()));
+		return this.<ArrayList<V>, V>map2list(ArrayList.class, map).toArray((V[]) Array.newInstance(klass.getComponentType(), 0));
 	}
 
 	/**
@@ -184,15 +222,11 @@ public class DefaultCaster extends Caster {
 	 */
 	@Caster.CastingMethod(subs = true, exclude = List.class)
 	public <C extends Collection<E>, E> C map2collection(Class<? super C> klass, Map<?, E> map) {
-		try {
-			C collection = (C) klass.getDeclaredConstructor(new Class[0]).newInstance();
+		C collection = (C) DefaultCaster.factories.get(klass).apply(map.size());
 
-			collection.addAll(map.values());
+		collection.addAll(map.values());
 
-			return collection;
-		} catch (IllegalAccessException | InstantiationException | NoSuchMethodException | InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
+		return collection;
 	}
 
 	/**
@@ -209,25 +243,21 @@ public class DefaultCaster extends Caster {
 	 */
 	@Caster.CastingMethod(subs = true)
 	public <L extends List<E>, E> L map2list(Class<? super L> klass, Map<?, E> map) {
-		try {
-			L list = (L) klass.getDeclaredConstructor(new Class[0]).newInstance();
+		L list = (L) DefaultCaster.factories.get(klass).apply(map.size());
 
-			//noinspection Java8MapForEach value may not be used
-			map.entrySet().forEach(entry -> {
-				Object key = entry.getKey();
+		//noinspection Java8MapForEach value may not be used
+		map.entrySet().forEach(entry -> {
+			Object key = entry.getKey();
 
-				if (key instanceof Integer) {
-					if (((Integer) key) >= list.size())
-						Collections.fill(list, ((Integer) key) + 1, i -> null);
+			if (key instanceof Integer) {
+				if (((Integer) key) >= list.size())
+					Collections.fill(list, ((Integer) key) + 1, i -> null);
 
-					list.set((Integer) key, entry.getValue());
-				}
-			});
+				list.set((Integer) key, entry.getValue());
+			}
+		});
 
-			return list;
-		} catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
+		return list;
 	}
 
 	/**
@@ -241,68 +271,79 @@ public class DefaultCaster extends Caster {
 	 */
 	@Caster.CastingMethod(subs = true)
 	public <M extends Map> M map2map(Class<? super M> klass, Map<?, ?> map) {
-		try {
-			M instance = (M) klass.getDeclaredConstructor(new Class[0]).newInstance();
-			//noinspection unchecked
-			instance.putAll(map);
-			return instance;
-		} catch (IllegalAccessException | InstantiationException | NoSuchMethodException | InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
+		M instance = (M) DefaultCaster.factories.get(klass).apply(map.size());
+		//noinspection unchecked
+		instance.putAll(map);
+		return instance;
 	}
 
 	/**
-	 * Get the value of the passed {@link Number} as a {@link Double}.
+	 * Get the value of the passed {@link Number} as a {@link Double}. (the nearest double to the passed number)
 	 *
 	 * @param number to be casted
 	 * @return the passed number as a double
 	 */
 	@Caster.CastingMethod
 	public Double number2double(Number number) {
-		return Double.valueOf(number.toString());
+		return number instanceof Double ? (Double) number : Double.valueOf(number.doubleValue());
 	}
 
 	/**
-	 * Get the value of the passed {@link Number} as a {@link Float}.
+	 * Get the value of the passed {@link Number} as a {@link Float}. (the nearest float to the passed number. Or an infinity if it's out of the
+	 * range of floats)
 	 *
 	 * @param number to be casted
 	 * @return the passed number as a float
 	 */
 	@Caster.CastingMethod
 	public Float number2float(Number number) {
-		return Float.valueOf(number.toString());
+		return number instanceof Float ? (Float) number : Float.valueOf(number.floatValue());
 	}
 
 	/**
-	 * Get the value of the passed {@link Number} as an {@link Integer}.
+	 * Get the value of the passed {@link Number} as an {@link Integer}. The fraction part is truncated (rounded toward zero).
 	 *
 	 * @param number to be casted
-	 * @return the passed number as an integer
+	 * @return the passed number as an integer. Or null if it's out of the range of integers (or not a number)
 	 */
 	@Caster.CastingMethod
 	public Integer number2integer(Number number) {
-		try {
-			String string = number.toString();
-			return string.contains("E") ? (int) Float.parseFloat(string) : Integer.parseInt(string.split("[.]")[0]);
-		} catch (Exception e) {
-			return null;
+		if (number instanceof Integer)
+			return (Integer) number;
+		if (DefaultCaster.integral(number)) {
+			long value = number.longValue();
+			return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Integer) (int) value : null;
 		}
+		if (number instanceof BigInteger)
+			return ((BigInteger) number).bitLength() < 32 ? (Integer) number.intValue() : null;
+		if (number instanceof BigDecimal)
+			return this.number2integer(((BigDecimal) number).toBigInteger());
+
+		double value = number.doubleValue();
+		//NaN fails both of the comparisons
+		return value > Integer.MIN_VALUE - 1.0 && value < Integer.MAX_VALUE + 1.0 ? (Integer) (int) value : null;
 	}
 
 	/**
-	 * Get the value of the passed {@link Number} as a {@link Long}.
+	 * Get the value of the passed {@link Number} as a {@link Long}. The fraction part is truncated (rounded toward zero).
 	 *
 	 * @param number to be casted
-	 * @return the passed number as a long
+	 * @return the passed number as a long. Or null if it's out of the range of longs (or not a number)
 	 */
 	@Caster.CastingMethod
 	public Long number2long(Number number) {
-		try {
-			String string = number.toString();
-			return string.contains("E") ? (long) Float.parseFloat(string) : Long.parseLong(string.split("[.]")[0]);
-		} catch (NumberFormatException ignored) {
-			return null;
-		}
+		if (number instanceof Long)
+			return (Long) number;
+		if (DefaultCaster.integral(number))
+			return number.longValue();
+		if (number instanceof BigInteger)
+			return ((BigInteger) number).bitLength() < 64 ? (Long) number.longValue() : null;
+		if (number instanceof BigDecimal)
+			return this.number2long(((BigDecimal) number).toBigInteger());
+
+		double value = number.doubleValue();
+		//NaN fails both of the comparisons. (-2^63 is the smallest long. And 2^63 is the first double after the biggest long)
+		return value >= -0x1p63 && value < 0x1p63 ? (Long) (long) value : null;
 	}
 
 	/**
@@ -320,11 +361,14 @@ public class DefaultCaster extends Caster {
 	 * Get the value of the passed {@link String} as a {@link Double}.
 	 *
 	 * @param string to be casted
-	 * @return the passed string as a double
+	 * @return the passed string as a double. Or null if it's not a number (see {@link Numbers})
 	 */
 	@Caster.CastingMethod
 	public Double string2double(String string) {
-		return Double.valueOf(string);
+		Number number = Numbers.parse(string);
+
+		//a float token is parsed again. So its digits are rounded once. To a double
+		return number == null ? null : number instanceof Float ? Double.valueOf(string) : this.number2double(number);
 	}
 
 	/**
@@ -348,32 +392,135 @@ public class DefaultCaster extends Caster {
 	 * Get the value of the passed {@link String} as a {@link Float}.
 	 *
 	 * @param string to be casted
-	 * @return the passed string as a float
+	 * @return the passed string as a float. Or null if it's not a number (see {@link Numbers})
 	 */
 	@Caster.CastingMethod
 	public Float string2float(String string) {
-		return Float.valueOf(string);
+		Number number = Numbers.parse(string);
+
+		//a double token is parsed again. So its digits are rounded once. To a float
+		return number == null ? null : number instanceof Double ? Float.valueOf(string) : this.number2float(number);
 	}
 
 	/**
-	 * Get the value of the passed {@link String} as an {@link Integer}.
+	 * Get the value of the passed {@link String} as an {@link Integer}. The fraction part is truncated (rounded toward zero).
 	 *
 	 * @param string to be casted
-	 * @return the passed string as an integer
+	 * @return the passed string as an integer. Or null if it's not a number (see {@link Numbers}) or out of the range of integers
 	 */
 	@Caster.CastingMethod
 	public Integer string2integer(String string) {
-		return string.contains("E") ? (int) Float.parseFloat(string) : Integer.parseInt(string.split("[.]")[0]);
+		Number number = Numbers.parse(string);
+		return number == null ? null : this.number2integer(number);
 	}
 
 	/**
-	 * Get the value of the passed {@link String} as a {@link Long}.
+	 * Get the value of the passed {@link String} as a {@link Long}. The fraction part is truncated (rounded toward zero).
 	 *
 	 * @param string to be casted
-	 * @return the passed string as a long
+	 * @return the passed string as a long. Or null if it's not a number (see {@link Numbers}) or out of the range of longs
 	 */
 	@Caster.CastingMethod
 	public Long string2long(String string) {
-		return string.contains("E") ? (long) Float.parseFloat(string) : Long.parseLong(string.split("[.]")[0]);
+		Number number = Numbers.parse(string);
+		return number == null ? null : this.number2long(number);
+	}
+
+	/**
+	 * Get a factory for the given collection or map class. That instances the implementation of the given class (if it's an interface or an
+	 * abstract class). Using its capacity constructor if it's known to have one. Or its default constructor.
+	 *
+	 * @param klass the collection or map class
+	 * @return a factory that takes the number of the elements to be hold by the new instance
+	 * @throws RuntimeException if the given class has no default constructor (and no known implementation)
+	 */
+	private static IntFunction<Object> factory(Class<?> klass) {
+		if (klass.isInterface() || Modifier.isAbstract(klass.getModifiers()))
+			for (Class<?> implementation : IMPLEMENTATIONS)
+				if (klass.isAssignableFrom(implementation)) {
+					klass = implementation;
+					break;
+				}
+
+		for (Class<?> counted : COUNTED)
+			if (counted == klass) {
+				MethodHandle handle = DefaultCaster.unreflect(klass, int.class);
+
+				if (handle != null)
+					return size -> DefaultCaster.invoke(handle, size);
+			}
+		for (Class<?> hashed : HASHED)
+			if (hashed == klass) {
+				MethodHandle handle = DefaultCaster.unreflect(klass, int.class);
+
+				if (handle != null)
+					//the capacity that holds the given size without rehashing (default load factor is 0.75)
+					return size -> DefaultCaster.invoke(handle, size + size / 3 + 1);
+			}
+
+		MethodHandle handle = DefaultCaster.unreflect(klass);
+
+		if (handle == null)
+			throw new RuntimeException(new NoSuchMethodException(klass.getName() + ".<init>()"));
+
+		return size -> DefaultCaster.invoke(handle, size);
+	}
+
+	/**
+	 * Check if the given number is of an integral type that its {@link Number#longValue()} is exact.
+	 *
+	 * @param number to be checked
+	 * @return whether the given number is integral or not
+	 */
+	private static boolean integral(Number number) {
+		return number instanceof Long ||
+			   number instanceof Integer ||
+			   number instanceof Short ||
+			   number instanceof Byte ||
+			   number instanceof AtomicInteger ||
+			   number instanceof AtomicLong ||
+			   number instanceof LongAdder ||
+			   number instanceof LongAccumulator;
+	}
+
+	/**
+	 * Invoke the given constructor handle.
+	 *
+	 * @param handle the constructor handle. (int) -&gt; object or () -&gt; object
+	 * @param size   the number of the elements to be hold by the new instance (ignored by the default constructors)
+	 * @return the new instance
+	 * @throws RuntimeException when instantiation exception occurs while invoking the constructor
+	 */
+	private static Object invoke(MethodHandle handle, int size) {
+		try {
+			return handle.type().parameterCount() == 0 ? (Object) handle.invokeExact() : (Object) handle.invokeExact(size);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Get a handle of the constructor of the given class that takes the given parameters.
+	 *
+	 * @param klass      the class to get the constructor of
+	 * @param parameters the parameter types of the constructor
+	 * @return a handle of the constructor. Or null if the class has no such constructor
+	 */
+	private static MethodHandle unreflect(Class<?> klass, Class<?>... parameters) {
+		try {
+			Constructor<?> constructor = klass.getDeclaredConstructor(parameters);
+
+			try {
+				//the class may not be public (ex. nested maps)
+				constructor.setAccessible(true);
+			} catch (RuntimeException ignored) {
+			}
+
+			return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class, parameters));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
 	}
 }
@@ -11,9 +11,13 @@
 package lsafer.util;
 
 import java.lang.annotation.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * An interface defines that the targeted class can be used as a JSObject. Basically JSObject means that the class can be working like a {@link Map}.
@@ -21,6 +25,10 @@ import java.util.*;
  * <br><br>
  * If you want your JSObject to store {@link Entry entries} Even if there is no {@link Field} to contain it. Then please add a transient field and
  * link it with this by overriding the method {@link #entries()} of your JSObject.
+ * <br><br>
+ * The entry-fields of each JSObject class are reflected once. Into a {@link Schema}. (so the fields, the keys and the configurations of a
+ * JSObject are solved from its class. Not from the instance. Except the classes that override {@link #getKey(Field)} or
+ * {@link #istransient(Field)}. Those are reflected once with the first instance their schema is requested for)
  *
  * <ul>
  * <li>
@@ -39,19 +47,20 @@ import java.util.*;
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
  * @author LSaferSE
- * @version 14 release (28-Sep-2019)
+ * @version 17 release (17-Oct-2026)
  * @since 06-Jul-19
  */
 @JSObject.Configurations
-public interface JSObject<K, V> extends Map<K, V>, Configurable, Caster.User {
+public interface JSObject<K, V> extends JetMap<K, V>, Configurable {
 	@Override
 	default int size() {
-		return this.keySet().size();
+		Map<K, Entry<K, V>> entries = this.entries();
+		return this.schema().properties.length + (entries == null ? 0 : entries.size());
 	}
 
 	@Override
 	default boolean isEmpty() {
-		return this.keySet().isEmpty();
+		return this.size() == 0;
 	}
 
 	@Override
@@ -61,9 +70,16 @@ public interface JSObject<K, V> extends Map<K, V>, Configurable, Caster.User {
 
 	@Override
 	default boolean containsValue(Object value) {
-		for (Map.Entry<K, V> entry : this.entrySet())
-			if (entry.getValue().equals(value))
+		Map<K, Entry<K, V>> entries = this.entries();
+
+		for (Property property : this.schema().properties)
+			if (Objects.equals(property.get(this), value))
 				return true;
+		if (entries != null)
+			for (Entry<K, V> entry : entries.values())
+				if (Objects.equals(entry.getValue(), value))
+					return true;
+
 		return false;
 	}
 
@@ -89,47 +105,27 @@ public interface JSObject<K, V> extends Map<K, V>, Configurable, Caster.User {
 
 	@Override
 	default void clear() {
-		this.entrySet().forEach(entry -> ((Entry<K, V>) entry).remove());
+		Map<K, Entry<K, V>> entries = this.entries();
+
+		for (Property property : this.schema().properties)
+			new Entry<>(this, entries, property, (K) property.key).remove();
+		if (entries != null)
+			entries.clear();
 	}
 
 	@Override
 	default Set<K> keySet() {
-		Map<K, Entry<K, V>> entries = this.entries();
-		Set<K> set = entries == null ? new HashSet<>() : new HashSet<>(entries.keySet());
-
-		for (Field field : this.getClass().getFields())
-			if (!this.istransient(field))
-				set.add(this.getKey(field));
-
-		return set;
+		return new KeySet<>(this);
 	}
 
 	@Override
 	default Collection<V> values() {
-		List<V> collection = new ArrayList<>();
-
-		//noinspection Java8MapForEach key not used
-		this.entrySet().forEach(entry -> collection.add(entry.getValue()));
-
-		return collection;
+		return new Values<>(this);
 	}
 
 	@Override
 	default Set<Map.Entry<K, V>> entrySet() {
-		Map<K, Entry<K, V>> entries = this.entries();
-		Set<Map.Entry<K, V>> set = entries == null ? new HashSet<>() : new HashSet<>(entries.values());
-
-		if (entries == null) {
-			for (Field field : this.getClass().getFields())
-				if (!this.istransient(field))
-					set.add(new Entry<>(this, null, field, this.getKey(field)));
-		} else {
-			for (Field field : this.getClass().getFields())
-				if (!this.istransient(field))
-					set.add(entries.computeIfAbsent(this.getKey(field), k -> new Entry<>(this, entries, field, k)));
-		}
-
-		return set;
+		return new EntrySet<>(this);
 	}
 
 	/**
@@ -142,6 +138,34 @@ public interface JSObject<K, V> extends Map<K, V>, Configurable, Caster.User {
 		return null;
 	}
 
+	/**
+	 * Get the value associated with the given key as a boolean. Without boxing if it's stored in a boolean field.
+	 *
+	 * @param key to get the value of
+	 * @return the value associated with the given key as a boolean. Or false if there is none (or it can't be casted)
+	 */
+	@Override
+	default boolean getBoolean(Object key) {
+		Property property = this.schema().get(key);
+		return property != null && (property.type == boolean.class) ?
+			   property.getBoolean(this) :
+			   JetMap.super.getBoolean(key);
+	}
+
+	/**
+	 * Get the value associated with the given key as a double. Without boxing if it's stored in a double, an int or a long field.
+	 *
+	 * @param key to get the value of
+	 * @return the value associated with the given key as a double. Or zero if there is none (or it can't be casted)
+	 */
+	@Override
+	default double getDouble(Object key) {
+		Property property = this.schema().get(key);
+		return property != null && (property.type == double.class || property.type == int.class || property.type == long.class) ?
+			   property.getDouble(this) :
+			   JetMap.super.getDouble(key);
+	}
+
 	/**
 	 * Get the entry associated with the passed key. Or create a brand new one if there is no instance for it.
 	 *
@@ -152,7 +176,7 @@ public interface JSObject<K, V> extends Map<K, V>, Configurable, Caster.User {
 		Map<K, Entry<K, V>> entries = this.entries();
 		Entry<K, V> entry = entries != null ? entries.get(key) : null;
 
-		return entry == null ? new Entry<>(this, entries, this.getField(key), (K) key) : entry;
+		return entry == null ? new Entry<>(this, entries, this.schema().get(key), (K) key) : entry;
 	}
 
 	/**
@@ -162,64 +186,130 @@ public interface JSObject<K, V> extends Map<K, V>, Configurable, Caster.User {
 	 * @return a field that responsible on storing value for the presented key
 	 */
 	default Field getField(Object key) {
-		Configurations configurations = this.configurations(Configurations.class, JSObject.class);
-
-		if (key instanceof String || key instanceof Integer)
-			try {
-				Field field = this.getClass().getField(key instanceof Integer ? configurations.indexer() + key : (String) key);
-				return this.istransient(field) ? null : field;
-			} catch (NoSuchFieldException ignored) {
-				if (configurations.overridableKeys())
-					for (Field field : this.getClass().getFields())
-						if (this.istransient(field) &&
-							field.isAnnotationPresent(EntryField.class) &&
-							field.getAnnotation(EntryField.class).key().equals(key))
-							return field;
-			}
+		Property property = this.schema().get(key);
+		return property == null ? null : property.field;
+	}
 
-		return null;
+	/**
+	 * Get the value associated with the given key as an int. Without boxing if it's stored in a int field.
+	 *
+	 * @param key to get the value of
+	 * @return the value associated with the given key as an int. Or zero if there is none (or it can't be casted)
+	 */
+	@Override
+	default int getInt(Object key) {
+		Property property = this.schema().get(key);
+		return property != null && (property.type == int.class) ?
+			   property.getInt(this) :
+			   JetMap.super.getInt(key);
 	}
 
 	/**
 	 * Get the key that the given field is associated to.
+	 * <br>
+	 * This is called once for each field. When the schema of the class of this is reflected. (so it shall not access the entries of this)
 	 *
 	 * @param field to get the key of
 	 * @return the key of the passed field
 	 */
 	default K getKey(Field field) {
-		EntryField annotation = field.getAnnotation(EntryField.class);
-		Configurations configurations = this.configurations(Configurations.class, JSObject.class);
-
-		if (configurations.overridableKeys() && annotation != null && !annotation.key().equals("")) {
-			return (K) annotation.key();
-		} else {
-			String name = field.getName();
-			String[] split = name.split(configurations.indexer());
-
-			if (split.length == 2)
-				try {
-					return (K) Integer.valueOf(split[1]);
-				} catch (NumberFormatException ignored) {
-				}
+		return (K) Property.key(Schema.configurations(this.getClass()), field);
+	}
 
-			return (K) name;
-		}
+	/**
+	 * Get the value associated with the given key as a long. Without boxing if it's stored in a long or an int field.
+	 *
+	 * @param key to get the value of
+	 * @return the value associated with the given key as a long. Or zero if there is none (or it can't be casted)
+	 */
+	@Override
+	default long getLong(Object key) {
+		Property property = this.schema().get(key);
+		return property != null && (property.type == long.class || property.type == int.class) ?
+			   property.getLong(this) :
+			   JetMap.super.getLong(key);
 	}
 
 	/**
 	 * Get whether the passed field is transient or not. So if it's so. Then it shouldn't be used as an entry container.
 	 *
+	 * <br>
+	 * This is called once for each field. When the schema of the class of this is reflected. (so it shall not access the entries of this)
+	 *
 	 * @param field to be checked
 	 * @return whether the passed field is transient or not
 	 */
 	default boolean istransient(Field field) {
-		int modifier = field.getModifiers();
-		return field.isAnnotationPresent(EntryField.class) ?
-			   field.getAnnotation(EntryField.class).istransient() :
-			   this.configurations(Configurations.class, JSObject.class).restricted() ||
-			   Modifier.isPrivate(modifier) ||
-			   Modifier.isProtected(modifier) ||
-			   Modifier.isTransient(modifier);
+		return Property.istransient(Schema.configurations(this.getClass()), field);
+	}
+
+	/**
+	 * Associate the given boolean with the given key. Without boxing if it's stored in a boolean field.
+	 *
+	 * @param key   to associate the given value with
+	 * @param value to be associated with the given key
+	 */
+	@Override
+	default void putBoolean(K key, boolean value) {
+		Property property = this.schema().get(key);
+
+		if (property != null && (property.type == boolean.class))
+			property.setBoolean(this, value);
+		else JetMap.super.putBoolean(key, value);
+	}
+
+	/**
+	 * Associate the given double with the given key. Without boxing if it's stored in a double field.
+	 *
+	 * @param key   to associate the given value with
+	 * @param value to be associated with the given key
+	 */
+	@Override
+	default void putDouble(K key, double value) {
+		Property property = this.schema().get(key);
+
+		if (property != null && (property.type == double.class))
+			property.setDouble(this, value);
+		else JetMap.super.putDouble(key, value);
+	}
+
+	/**
+	 * Associate the given int with the given key. Without boxing if it's stored in a int, a long or a double field.
+	 *
+	 * @param key   to associate the given value with
+	 * @param value to be associated with the given key
+	 */
+	@Override
+	default void putInt(K key, int value) {
+		Property property = this.schema().get(key);
+
+		if (property != null && (property.type == int.class || property.type == long.class || property.type == double.class))
+			property.setInt(this, value);
+		else JetMap.super.putInt(key, value);
+	}
+
+	/**
+	 * Associate the given long with the given key. Without boxing if it's stored in a long or a double field.
+	 *
+	 * @param key   to associate the given value with
+	 * @param value to be associated with the given key
+	 */
+	@Override
+	default void putLong(K key, long value) {
+		Property property = this.schema().get(key);
+
+		if (property != null && (property.type == long.class || property.type == double.class))
+			property.setLong(this, value);
+		else JetMap.super.putLong(key, value);
+	}
+
+	/**
+	 * Get the reflected entry-fields of the class of this.
+	 *
+	 * @return the schema of the class of this
+	 */
+	default Schema schema() {
+		return Schema.of(this);
 	}
 
 	/**
@@ -320,6 +410,11 @@ public interface JSObject<K, V> extends Map<K, V>, Configurable, Caster.User {
 		 */
 		public Field field;
 
+		/**
+		 * The reflected field where this entry is linked to. (null if there is no such field)
+		 */
+		public Property property;
+
 		/**
 		 * The key represented by this entry.
 		 */
@@ -344,10 +439,23 @@ public interface JSObject<K, V> extends Map<K, V>, Configurable, Caster.User {
 		 * @param key     the key represented by this entry
 		 */
 		public Entry(JSObject<K, V> object, Map<K, Entry<K, V>> entries, Field field, K key) {
+			this(object, entries, field == null ? null : object.schema().property(field), key);
+		}
+
+		/**
+		 * Initialize this.
+		 *
+		 * @param object   the JSObject that this entry belongs to
+		 * @param entries  a reference to the entries map instance of the JSObject that this entry belongs to (null if there is no such instance)
+		 * @param property the reflected field where this entry is linked to (null if there is no such field)
+		 * @param key      the key represented by this entry
+		 */
+		public Entry(JSObject<K, V> object, Map<K, Entry<K, V>> entries, Property property, K key) {
 			this.object = object;
 			this.key = key;
 			this.entries = entries;
-			this.field = field;
+			this.property = property;
+			this.field = property == null ? null : property.field;
 		}
 
 		@Override
@@ -357,40 +465,29 @@ public interface JSObject<K, V> extends Map<K, V>, Configurable, Caster.User {
 
 		@Override
 		public V getValue() {
-			if (this.field != null)
-				try {
-					return (V) this.field.get(this.object);
-				} catch (IllegalAccessException e) {
-					e.printStackTrace();
-				}
-
-			return this.value;
+			return this.property == null ? this.value : (V) this.property.get(this.object);
 		}
 
 		@Override
 		public V setValue(V value) {
 			V old = this.getValue();
 
-			if (this.entries != null)
+			//the field entries are not stored. So the stored entries are only the entries that have no fields
+			if (this.entries != null && this.property == null)
 				this.entries.put(this.key, this);
 
-			if (this.field != null) {
-				Class<V> type = (Class<V>) this.field.getType();
+			if (this.property != null) {
+				Class<?> type = this.property.type;
+
+				if (value != null && !Classes.objective(type).isInstance(value))
+					value = (V) this.object.caster().cast(type, value);
 
 				if (type.isPrimitive() && value == null) {
 					new Throwable(this.field + " with primitive type can't be set to null").printStackTrace();
 					return old;
-				} else if (!type.isInstance(value)) {
-					this.object.put(this.key, this.object.caster().cast(type, value));
-					return old;
-				} else {
-					try {
-						this.field.setAccessible(true);
-						this.field.set(this.object, value);
-					} catch (IllegalAccessException e) {
-						throw new RuntimeException(e);
-					}
 				}
+
+				this.property.set(this.object, value);
 			}
 
 			this.value = value;
@@ -421,21 +518,901 @@ public interface JSObject<K, V> extends Map<K, V>, Configurable, Caster.User {
 			} else if (this.field.getType().isPrimitive()) {
 				new Throwable(this.field + " with primitive type can't be removed (can't be set to null)").printStackTrace();
 				return old;
-			} else {
-				EntryField annotation = this.field.getAnnotation(EntryField.class);
-				Configurations configurations = this.object.configurations(Configurations.class, JSObject.class);
-
-				if ((annotation != null && annotation.removable()) || (configurations.restricted() && configurations.removable()))
-					try {
-						this.field.setAccessible(true);
-						this.field.set(this.object, null);
-						this.value = null;
-					} catch (IllegalAccessException e) {
-						throw new RuntimeException(e);
-					}
+			} else if (this.property.removable) {
+				this.property.set(this.object, null);
+				this.value = null;
 			}
 
 			return old;
 		}
 	}
+
+	/**
+	 * A live view of the entries of a JSObject. Iterates the entry-fields of the JSObject. Then its stored entries.
+	 *
+	 * @param <K> the type of keys maintained by the JSObject
+	 * @param <V> the type of mapped values
+	 */
+	final class EntrySet<K, V> extends AbstractSet<Map.Entry<K, V>> {
+		/**
+		 * The JSObject this is a view of.
+		 */
+		final public JSObject<K, V> object;
+
+		/**
+		 * Initialize this.
+		 *
+		 * @param object the JSObject this is a view of
+		 */
+		public EntrySet(JSObject<K, V> object) {
+			this.object = object;
+		}
+
+		@Override
+		public void clear() {
+			this.object.clear();
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			if (!(object instanceof Map.Entry))
+				return false;
+
+			Entry<K, V> entry = this.object.getEntry(((Map.Entry<?, ?>) object).getKey());
+			return entry.exist() && Objects.equals(entry.getValue(), ((Map.Entry<?, ?>) object).getValue());
+		}
+
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			return new Iterator<Map.Entry<K, V>>() {
+				/**
+				 * The stored entries of the JSObject.
+				 */
+				final Map<K, Entry<K, V>> entries = EntrySet.this.object.entries();
+				/**
+				 * The entry-fields of the JSObject.
+				 */
+				final Property[] properties = EntrySet.this.object.schema().properties;
+				/**
+				 * The iterator of the stored entries. (after iterating the entry-fields)
+				 */
+				final Iterator<Entry<K, V>> stored = this.entries == null ? null : this.entries.values().iterator();
+
+				/**
+				 * The index of the next entry-field.
+				 */
+				int index;
+				/**
+				 * The last returned entry.
+				 */
+				Entry<K, V> last;
+
+				@Override
+				public boolean hasNext() {
+					return this.index < this.properties.length || this.stored != null && this.stored.hasNext();
+				}
+
+				@Override
+				public Map.Entry<K, V> next() {
+					if (this.index < this.properties.length) {
+						Property property = this.properties[this.index++];
+						return this.last = new Entry<>(EntrySet.this.object, this.entries, property, (K) property.key);
+					}
+					if (this.stored == null)
+						throw new NoSuchElementException();
+
+					return this.last = this.stored.next();
+				}
+
+				@Override
+				public void remove() {
+					if (this.last == null)
+						throw new IllegalStateException();
+
+					if (this.last.property == null)
+						this.stored.remove();
+					else this.last.remove();
+
+					this.last = null;
+				}
+			};
+		}
+
+		@Override
+		public boolean remove(Object object) {
+			if (!this.contains(object))
+				return false;
+
+			this.object.remove(((Map.Entry<?, ?>) object).getKey());
+			return true;
+		}
+
+		@Override
+		public int size() {
+			return this.object.size();
+		}
+	}
+
+	/**
+	 * A live view of the keys of a JSObject.
+	 *
+	 * @param <K> the type of keys maintained by the JSObject
+	 */
+	final class KeySet<K> extends AbstractSet<K> {
+		/**
+		 * The JSObject this is a view of.
+		 */
+		final public JSObject<K, ?> object;
+
+		/**
+		 * Initialize this.
+		 *
+		 * @param object the JSObject this is a view of
+		 */
+		public KeySet(JSObject<K, ?> object) {
+			this.object = object;
+		}
+
+		@Override
+		public void clear() {
+			this.object.clear();
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			return this.object.containsKey(object);
+		}
+
+		@Override
+		public Iterator<K> iterator() {
+			Iterator<? extends Map.Entry<K, ?>> iterator = this.object.entrySet().iterator();
+			return new Iterator<K>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public K next() {
+					return iterator.next().getKey();
+				}
+
+				@Override
+				public void remove() {
+					iterator.remove();
+				}
+			};
+		}
+
+		@Override
+		public boolean remove(Object object) {
+			if (!this.object.containsKey(object))
+				return false;
+
+			this.object.remove(object);
+			return true;
+		}
+
+		@Override
+		public int size() {
+			return this.object.size();
+		}
+	}
+
+	/**
+	 * A reflected field of a JSObject class. With its key and its entry flags solved. And method handles bound to it. (the primitive fields can be
+	 * accessed without boxing using the primitive accessors. Like {@link #getInt(Object)} and {@link #setInt(Object, int)})
+	 * <br>
+	 * The generated schemas (see {@link Schema}) subclass this. And override the accessors with direct field accesses.
+	 */
+	class Property {
+		/**
+		 * The reflected field.
+		 */
+		final public Field field;
+		/**
+		 * Whether the field is transient (not an entry-field) or not.
+		 */
+		final public boolean istransient;
+		/**
+		 * The key the field is associated to.
+		 */
+		final public Object key;
+		/**
+		 * Whether the field can be set to null when its entry get removed or not.
+		 */
+		final public boolean removable;
+		/**
+		 * The type of the field.
+		 */
+		final public Class<?> type;
+
+		/**
+		 * The getter of the field. (object) -&gt; type (primitive fields). Or (object) -&gt; object. (null if the accessors are overridden)
+		 */
+		final private MethodHandle getter;
+		/**
+		 * The setter of the field. (object, type) -&gt; void (primitive fields). Or (object, object) -&gt; void. (null if the accessors are overridden)
+		 */
+		final private MethodHandle setter;
+
+		/**
+		 * Reflect the given field.
+		 *
+		 * @param configurations the configurations of the JSObject class that have the given field
+		 * @param field          to be reflected
+		 */
+		public Property(Configurations configurations, Field field) {
+			this(configurations, field, Property.key(configurations, field), Property.istransient(configurations, field));
+		}
+
+		/**
+		 * Reflect the given field. With a solved key and transient flag. (ex. the ones a JSObject {@link JSObject#getKey(Field) overrides})
+		 *
+		 * @param configurations the configurations of the JSObject class that have the given field
+		 * @param field          to be reflected
+		 * @param key            the key the field is associated to
+		 * @param istransient    whether the field is transient (not an entry-field) or not
+		 */
+		public Property(Configurations configurations, Field field, Object key, boolean istransient) {
+			EntryField annotation = field.getAnnotation(EntryField.class);
+
+			this.field = field;
+			this.type = field.getType();
+			this.key = key;
+			this.istransient = istransient;
+			this.removable = (annotation != null && annotation.removable()) || (configurations.restricted() && configurations.removable());
+
+			try {
+				//the declaring class may not be public
+				field.setAccessible(true);
+			} catch (RuntimeException ignored) {
+			}
+
+			Class<?> raw = this.type.isPrimitive() ? this.type : Object.class;
+			this.getter = Property.accessor(field, false, MethodType.methodType(raw, Object.class));
+			this.setter = Property.accessor(field, true, MethodType.methodType(void.class, Object.class, raw));
+		}
+
+		/**
+		 * Initialize this with a solved key and flags. For subclasses that override {@link #get(Object)} and {@link #set(Object, Object)}. And the
+		 * primitive accessors of the type of the field (ex. {@link #getInt(Object)} and {@link #setInt(Object, int)} for int fields).
+		 *
+		 * @param field       the field
+		 * @param key         the key the field is associated to
+		 * @param istransient whether the field is transient (not an entry-field) or not
+		 * @param removable   whether the field can be set to null when its entry get removed or not
+		 */
+		protected Property(Field field, Object key, boolean istransient, boolean removable) {
+			this.field = field;
+			this.type = field.getType();
+			this.key = key;
+			this.istransient = istransient;
+			this.removable = removable;
+			this.getter = null;
+			this.setter = null;
+		}
+
+		/**
+		 * Get whether the given field is transient (not an entry-field) or not. By its {@link EntryField annotation}. Or its modifiers and the
+		 * given configurations.
+		 *
+		 * @param configurations the configurations of the JSObject class that have the given field
+		 * @param field          to be checked
+		 * @return whether the given field is transient or not
+		 */
+		public static boolean istransient(Configurations configurations, Field field) {
+			EntryField annotation = field.getAnnotation(EntryField.class);
+			int modifier = field.getModifiers();
+
+			return annotation != null ?
+				   annotation.istransient() :
+				   configurations.restricted() ||
+				   Modifier.isPrivate(modifier) ||
+				   Modifier.isProtected(modifier) ||
+				   Modifier.isTransient(modifier);
+		}
+
+		/**
+		 * Get the key the given field is associated to. Its {@link EntryField#key() overridden key}. Or its index. Or its name.
+		 *
+		 * @param configurations the configurations of the JSObject class that have the given field
+		 * @param field          to get the key of
+		 * @return the key of the given field
+		 */
+		public static Object key(Configurations configurations, Field field) {
+			EntryField annotation = field.getAnnotation(EntryField.class);
+
+			if (configurations.overridableKeys() && annotation != null && !annotation.key().equals(""))
+				return annotation.key();
+
+			String name = field.getName();
+			String[] split = name.split(configurations.indexer());
+
+			if (split.length == 2)
+				try {
+					return Integer.valueOf(split[1]);
+				} catch (NumberFormatException ignored) {
+				}
+
+			return name;
+		}
+
+		/**
+		 * Get a method handle of the given type that gets/sets the given field.
+		 *
+		 * @param field  the field to get a handle for
+		 * @param setter true to get a setter. Or false to get a getter
+		 * @param type   the type of the handle. (object) -&gt; value for getters. Or (object, value) -&gt; void for setters
+		 * @return a handle that accesses the given field. Or a handle that throws a {@link RuntimeException} if the field is not accessible
+		 */
+		private static MethodHandle accessor(Field field, boolean setter, MethodType type) {
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				MethodHandle handle = setter ? lookup.unreflectSetter(field) : lookup.unreflectGetter(field);
+
+				if (Modifier.isStatic(field.getModifiers()))
+					handle = MethodHandles.dropArguments(handle, 0, Object.class);
+
+				return handle.asType(type);
+			} catch (IllegalAccessException e) {
+				//an inaccessible (or a final) field fails when it's accessed. Not when it's reflected
+				MethodHandle thrower = MethodHandles.throwException(type.returnType(), RuntimeException.class).bindTo(new RuntimeException(e));
+				return MethodHandles.dropArguments(thrower, 0, type.parameterList());
+			}
+		}
+
+		/**
+		 * Get the value of the field in the given object.
+		 *
+		 * @param object the object to get the value of the field from
+		 * @return the value of the field (boxed if it's primitive)
+		 */
+		public Object get(Object object) {
+			try {
+				if (this.type == int.class)
+					return (int) this.getter.invokeExact(object);
+				if (this.type == long.class)
+					return (long) this.getter.invokeExact(object);
+				if (this.type == double.class)
+					return (double) this.getter.invokeExact(object);
+				if (this.type == boolean.class)
+					return (boolean) this.getter.invokeExact(object);
+				if (this.type.isPrimitive())
+					return this.getter.invoke(object);
+
+				return (Object) this.getter.invokeExact(object);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Get the value of the field in the given object as a boolean. Without boxing if the field is a boolean.
+		 *
+		 * @param object the object to get the value of the field from
+		 * @return the value of the field as a boolean
+		 * @throws ClassCastException   if the value of the field is not a boolean
+		 * @throws NullPointerException if the value of the field is null
+		 */
+		public boolean getBoolean(Object object) {
+			if (this.type != boolean.class)
+				return (Boolean) this.get(object);
+
+			try {
+				return (boolean) this.getter.invokeExact(object);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Get the value of the field in the given object as a double. Without boxing if the field is a double, an int or a long.
+		 *
+		 * @param object the object to get the value of the field from
+		 * @return the value of the field as a double
+		 * @throws ClassCastException   if the value of the field is not a number
+		 * @throws NullPointerException if the value of the field is null
+		 */
+		public double getDouble(Object object) {
+			if (this.type == int.class)
+				return this.getInt(object);
+			if (this.type == long.class)
+				return this.getLong(object);
+			if (this.type != double.class)
+				return ((Number) this.get(object)).doubleValue();
+
+			try {
+				return (double) this.getter.invokeExact(object);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Get the value of the field in the given object as an int. Without boxing if the field is an int.
+		 *
+		 * @param object the object to get the value of the field from
+		 * @return the value of the field as an int
+		 * @throws ClassCastException   if the value of the field is not a number
+		 * @throws NullPointerException if the value of the field is null
+		 */
+		public int getInt(Object object) {
+			if (this.type != int.class)
+				return ((Number) this.get(object)).intValue();
+
+			try {
+				return (int) this.getter.invokeExact(object);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Get the value of the field in the given object as a long. Without boxing if the field is a long or an int.
+		 *
+		 * @param object the object to get the value of the field from
+		 * @return the value of the field as a long
+		 * @throws ClassCastException   if the value of the field is not a number
+		 * @throws NullPointerException if the value of the field is null
+		 */
+		public long getLong(Object object) {
+			if (this.type == int.class)
+				return this.getInt(object);
+			if (this.type != long.class)
+				return ((Number) this.get(object)).longValue();
+
+			try {
+				return (long) this.getter.invokeExact(object);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Set the value of the field in the given object.
+		 *
+		 * @param object the object to set the value of the field to
+		 * @param value  the new value of the field (unboxed if the field is primitive)
+		 * @throws ClassCastException if the given value is not an instance of the type of the field
+		 * @throws RuntimeException   if the field is final (or not accessible)
+		 */
+		public void set(Object object, Object value) {
+			try {
+				if (this.type.isPrimitive())
+					this.setter.invoke(object, value);
+				else
+					this.setter.invokeExact(object, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Set the value of the field in the given object to the given boolean. Without boxing if the field is a boolean.
+		 *
+		 * @param object the object to set the value of the field to
+		 * @param value  the new value of the field
+		 * @throws ClassCastException if the field can't hold a boolean
+		 * @throws RuntimeException   if the field is final
+		 */
+		public void setBoolean(Object object, boolean value) {
+			if (this.type != boolean.class) {
+				this.set(object, value);
+				return;
+			}
+
+			try {
+				this.setter.invokeExact(object, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Set the value of the field in the given object to the given double. Without boxing if the field is a double.
+		 *
+		 * @param object the object to set the value of the field to
+		 * @param value  the new value of the field
+		 * @throws ClassCastException if the field can't hold a double
+		 * @throws RuntimeException   if the field is final
+		 */
+		public void setDouble(Object object, double value) {
+			if (this.type != double.class) {
+				this.set(object, value);
+				return;
+			}
+
+			try {
+				this.setter.invokeExact(object, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Set the value of the field in the given object to the given int. Without boxing if the field is an int, a long or a double.
+		 *
+		 * @param object the object to set the value of the field to
+		 * @param value  the new value of the field
+		 * @throws ClassCastException if the field can't hold an int
+		 * @throws RuntimeException   if the field is final
+		 */
+		public void setInt(Object object, int value) {
+			if (this.type == long.class) {
+				this.setLong(object, value);
+				return;
+			}
+			if (this.type == double.class) {
+				this.setDouble(object, value);
+				return;
+			}
+			if (this.type != int.class) {
+				this.set(object, value);
+				return;
+			}
+
+			try {
+				this.setter.invokeExact(object, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Set the value of the field in the given object to the given long. Without boxing if the field is a long or a double.
+		 *
+		 * @param object the object to set the value of the field to
+		 * @param value  the new value of the field
+		 * @throws ClassCastException if the field can't hold a long
+		 * @throws RuntimeException   if the field is final
+		 */
+		public void setLong(Object object, long value) {
+			if (this.type == double.class) {
+				this.setDouble(object, value);
+				return;
+			}
+			if (this.type != long.class) {
+				this.set(object, value);
+				return;
+			}
+
+			try {
+				this.setter.invokeExact(object, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * The reflected entry-fields of a JSObject class. Computed once for each class. So the accesses to the entries of a JSObject need no reflective
+	 * lookups.
+	 * <br>
+	 * A JSObject class can have a generated schema (see lsafer.processor.SchemaProcessor). A class in the same package named after the JSObject
+	 * class with the suffix "_Schema" that extends this class. With the keys solved at compile time. And the fields accessed directly. If the
+	 * generated schema is not found, the fields of the JSObject class are reflected at runtime.
+	 */
+	class Schema {
+		/**
+		 * The schemas of the JSObject classes. (computed once for each class)
+		 */
+		final private static ClassValue<Schema> schemas = new ClassValue<Schema>() {
+			@Override
+			protected Schema computeValue(Class<?> type) {
+				Schema schema = Schema.generated(type);
+				return schema == null ? Schema.reflect(type) : schema;
+			}
+		};
+		/**
+		 * Whether the JSObject classes override {@link JSObject#getKey(Field)} or {@link JSObject#istransient(Field)} or not.
+		 */
+		final private static ClassValue<Boolean> hooked = new ClassValue<Boolean>() {
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				try {
+					return type.getMethod("getKey", Field.class).getDeclaringClass() != JSObject.class ||
+						   type.getMethod("istransient", Field.class).getDeclaringClass() != JSObject.class;
+				} catch (NoSuchMethodException e) {
+					return false;
+				}
+			}
+		};
+		/**
+		 * The schemas of the JSObject classes that override {@link JSObject#getKey(Field)} or {@link JSObject#istransient(Field)}. (reflected
+		 * once. With the first instance)
+		 */
+		final private static ClassValue<AtomicReference<Schema>> instances = new ClassValue<AtomicReference<Schema>>() {
+			@Override
+			protected AtomicReference<Schema> computeValue(Class<?> type) {
+				return new AtomicReference<>();
+			}
+		};
+
+		/**
+		 * The configurations of the JSObject class.
+		 */
+		final public Configurations configurations;
+		/**
+		 * The entry-fields of the JSObject class. Ordered as declared. (one field for each key)
+		 */
+		final public Property[] properties;
+
+		/**
+		 * The reflected fields of the JSObject class. Mapped to their reflections.
+		 */
+		final private Map<Field, Property> fields = new HashMap<>();
+		/**
+		 * The fields mapped to the keys they can be accessed with.
+		 */
+		final private Map<Object, Property> keys = new HashMap<>();
+
+		/**
+		 * Initialize this.
+		 *
+		 * @param klass      the JSObject class
+		 * @param properties the entry-fields of the given class (one field for each key)
+		 * @param transients the transient fields of the given class that can be accessed by their {@link EntryField#key() overridden keys}
+		 */
+		protected Schema(Class<?> klass, Property[] properties, Property[] transients) {
+			this.configurations = Schema.configurations(klass);
+			this.properties = properties;
+
+			for (Property property : properties)
+				this.fields.put(property.field, property);
+			for (Property property : transients)
+				this.fields.put(property.field, property);
+
+			//the names of the fields first. Then their keys. Then the overridden keys of the transient fields
+			for (Property property : properties) {
+				this.keys.putIfAbsent(property.field.getName(), property);
+
+				if (property.key instanceof Integer)
+					this.keys.putIfAbsent(property.key, property);
+			}
+			for (Property property : properties)
+				this.keys.putIfAbsent(property.key, property);
+			for (Property property : transients)
+				this.keys.putIfAbsent(property.key, property);
+		}
+
+		/**
+		 * Get the generated schema of the given JSObject class.
+		 *
+		 * @param klass the JSObject class
+		 * @return the generated schema of the given class. Or null if it has none
+		 */
+		public static Schema generated(Class<?> klass) {
+			try {
+				return Class.forName(klass.getName() + "_Schema", true, klass.getClassLoader())
+						.asSubclass(Schema.class)
+						.getConstructor()
+						.newInstance();
+			} catch (ClassNotFoundException | ClassCastException ignored) {
+				return null;
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Get the schema of the given JSObject class. (ignoring the {@link JSObject#getKey(Field)} and {@link JSObject#istransient(Field)} the class
+		 * overrides. Use {@link #of(JSObject)} to have them respected)
+		 *
+		 * @param klass the JSObject class
+		 * @return the schema of the given class
+		 */
+		public static Schema of(Class<?> klass) {
+			return Schema.schemas.get(klass);
+		}
+
+		/**
+		 * Get the schema of the class of the given JSObject. If the class overrides {@link JSObject#getKey(Field)} or {@link
+		 * JSObject#istransient(Field)}. Then its fields get reflected using the given object. (once for each class)
+		 *
+		 * @param object the JSObject
+		 * @return the schema of the class of the given object
+		 */
+		public static Schema of(JSObject<?, ?> object) {
+			Class<?> klass = object.getClass();
+
+			if (!Schema.hooked.get(klass))
+				return Schema.schemas.get(klass);
+
+			AtomicReference<Schema> reference = Schema.instances.get(klass);
+			Schema schema = reference.get();
+
+			if (schema == null) {
+				reference.compareAndSet(null, Schema.reflect(klass, object));
+				schema = reference.get();
+			}
+
+			return schema;
+		}
+
+		/**
+		 * Reflect the public fields of the given JSObject class.
+		 *
+		 * @param klass the JSObject class
+		 * @return a schema of the reflected fields of the given class
+		 */
+		public static Schema reflect(Class<?> klass) {
+			return Schema.reflect(klass, null);
+		}
+
+		/**
+		 * Reflect the public fields of the class of the given JSObject. Using the keys and the transient flags the object {@link
+		 * JSObject#getKey(Field) overrides}.
+		 *
+		 * @param object the JSObject
+		 * @return a schema of the reflected fields of the class of the given object
+		 */
+		public static Schema reflect(JSObject<?, ?> object) {
+			return Schema.reflect(object.getClass(), object);
+		}
+
+		/**
+		 * Reflect the public fields of the given JSObject class. Using the keys and the transient flags the given object overrides.
+		 *
+		 * @param klass  the JSObject class
+		 * @param object an instance of the given class to get the keys and the transient flags from. Or null to solve them from the class
+		 * @return a schema of the reflected fields of the given class
+		 */
+		private static Schema reflect(Class<?> klass, JSObject<?, ?> object) {
+			Configurations configurations = Schema.configurations(klass);
+			Map<Object, Property> properties = new LinkedHashMap<>();
+			List<Property> transients = new ArrayList<>();
+
+			for (Field field : klass.getFields()) {
+				Property property = object == null ?
+									new Property(configurations, field) :
+									new Property(configurations, field, object.getKey(field), object.istransient(field));
+
+				//a key is associated to the first field that have it
+				if (!property.istransient)
+					properties.putIfAbsent(property.key, property);
+				else if (configurations.overridableKeys() && field.isAnnotationPresent(EntryField.class))
+					transients.add(property);
+			}
+
+			return new Schema(klass, properties.values().toArray(new Property[0]), transients.toArray(new Property[0]));
+		}
+
+		/**
+		 * Reflect the public field with the given name of the given JSObject class. (for generated schemas)
+		 *
+		 * @param klass the JSObject class
+		 * @param name  the name of the field
+		 * @return the field with the given name
+		 * @throws RuntimeException if the given class has no such public field
+		 */
+		protected static Field field(Class<?> klass, String name) {
+			try {
+				return klass.getField(name);
+			} catch (NoSuchFieldException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Reflect the public field with the given name of the given JSObject class. Including its accessors. (for generated schemas)
+		 *
+		 * @param klass the JSObject class
+		 * @param name  the name of the field
+		 * @return the reflection of the field with the given name
+		 * @throws RuntimeException if the given class has no such public field
+		 */
+		protected static Property property(Class<?> klass, String name) {
+			return new Property(Schema.configurations(klass), Schema.field(klass, name));
+		}
+
+		/**
+		 * Get the configurations of the given JSObject class.
+		 *
+		 * @param klass the JSObject class
+		 * @return the configurations annotated to the given class. Or the default configurations
+		 */
+		private static Configurations configurations(Class<?> klass) {
+			Configurations configurations = klass.getAnnotation(Configurations.class);
+			return configurations == null ? JSObject.class.getAnnotation(Configurations.class) : configurations;
+		}
+
+		/**
+		 * Get the field that is suppose to be an entry for the given key. (its name. Its index. Or its {@link EntryField#key() overridden key})
+		 *
+		 * @param key to get the field for
+		 * @return the reflected field for the given key. Or null if there is none
+		 */
+		public Property get(Object key) {
+			return key instanceof String || key instanceof Integer ? this.keys.get(key) : null;
+		}
+
+		/**
+		 * Get the reflection of the given field.
+		 *
+		 * @param field to get the reflection of (a field of the JSObject class. Or any other field)
+		 * @return the reflection of the given field
+		 */
+		public Property property(Field field) {
+			Property property = this.fields.get(field);
+			return property == null ? new Property(this.configurations, field) : property;
+		}
+	}
+
+	/**
+	 * A live view of the values of a JSObject.
+	 *
+	 * @param <V> the type of mapped values
+	 */
+	final class Values<V> extends AbstractCollection<V> {
+		/**
+		 * The JSObject this is a view of.
+		 */
+		final public JSObject<?, V> object;
+
+		/**
+		 * Initialize this.
+		 *
+		 * @param object the JSObject this is a view of
+		 */
+		public Values(JSObject<?, V> object) {
+			this.object = object;
+		}
+
+		@Override
+		public void clear() {
+			this.object.clear();
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			return this.object.containsValue(object);
+		}
+
+		@Override
+		public Iterator<V> iterator() {
+			Iterator<? extends Map.Entry<?, V>> iterator = this.object.entrySet().iterator();
+			return new Iterator<V>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public V next() {
+					return iterator.next().getValue();
+				}
+
+				@Override
+				public void remove() {
+					iterator.remove();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return this.object.size();
+		}
+	}
 }
@@ -21,7 +21,7 @@ import java.util.function.Consumer;
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
  * @author LSaferSE
- * @version 2 release (28-Sep-19)
+ * @version 3 release (17-Oct-2026)
  * @since 18-Sep-19
  */
 public interface JetMap<K, V> extends Map<K, V>, Caster.User {
@@ -100,6 +100,16 @@ public interface JetMap<K, V> extends Map<K, V>, Caster.User {
 		});
 	}
 
+	/**
+	 * Get the value mapped to the given key as a boolean. Without casting if it's a boolean.
+	 *
+	 * @param key to get it's mapped value
+	 * @return the mapped value to the given key as a boolean. Or false if there is none (or it can't be casted)
+	 */
+	default boolean getBoolean(Object key) {
+		return this.caster().castBoolean(this.get(key));
+	}
+
 	/**
 	 * Get the value mapped to the given key. Or returns the given default value case the key didn't exist or it's mapped to null.
 	 *
@@ -118,6 +128,36 @@ public interface JetMap<K, V> extends Map<K, V>, Caster.User {
 		return this.caster().cast(klass, this.get(key));
 	}
 
+	/**
+	 * Get the value mapped to the given key as a double. Without casting if it's a double.
+	 *
+	 * @param key to get it's mapped value
+	 * @return the mapped value to the given key as a double. Or zero if there is none (or it can't be casted)
+	 */
+	default double getDouble(Object key) {
+		return this.caster().castDouble(this.get(key));
+	}
+
+	/**
+	 * Get the value mapped to the given key as an integer. Without casting if it's an integer.
+	 *
+	 * @param key to get it's mapped value
+	 * @return the mapped value to the given key as an integer. Or zero if there is none (or it can't be casted)
+	 */
+	default int getInt(Object key) {
+		return this.caster().castInt(this.get(key));
+	}
+
+	/**
+	 * Get the value mapped to the given key as a long. Without casting if it's a long (or an integer).
+	 *
+	 * @param key to get it's mapped value
+	 * @return the mapped value to the given key as a long. Or zero if there is none (or it can't be casted)
+	 */
+	default long getLong(Object key) {
+		return this.caster().castLong(this.get(key));
+	}
+
 	/**
 	 * Accept the 'thisContains' consumer foreach key this map contains but the given map dont. Then accept the 'mapContains' consumer foreach key the
 	 * given map contains but this map dont.
@@ -167,6 +207,50 @@ public interface JetMap<K, V> extends Map<K, V>, Caster.User {
 			theirs.forEach(key -> mapContains.accept(key, map.get(key)));
 	}
 
+	/**
+	 * Map the given boolean to the given key.
+	 *
+	 * @param key   to map the given value to
+	 * @param value to be mapped
+	 */
+	@SuppressWarnings("unchecked")
+	default void putBoolean(K key, boolean value) {
+		this.put(key, (V) (Boolean) value);
+	}
+
+	/**
+	 * Map the given double to the given key.
+	 *
+	 * @param key   to map the given value to
+	 * @param value to be mapped
+	 */
+	@SuppressWarnings("unchecked")
+	default void putDouble(K key, double value) {
+		this.put(key, (V) (Double) value);
+	}
+
+	/**
+	 * Map the given integer to the given key.
+	 *
+	 * @param key   to map the given value to
+	 * @param value to be mapped
+	 */
+	@SuppressWarnings("unchecked")
+	default void putInt(K key, int value) {
+		this.put(key, (V) (Integer) value);
+	}
+
+	/**
+	 * Map the given long to the given key.
+	 *
+	 * @param key   to map the given value to
+	 * @param value to be mapped
+	 */
+	@SuppressWarnings("unchecked")
+	default void putLong(K key, long value) {
+		this.put(key, (V) (Long) value);
+	}
+
 	/**
 	 * Removes all of the entries of this that satisfy the given predicate. Errors or runtime exceptions thrown during iteration or by the predicate
 	 * are relayed to the caller.
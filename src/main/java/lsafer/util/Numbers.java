@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.util;
+
+/**
+ * Useful utils for numeric tokens. A lexer that classifies and parses numeric tokens in a single pass. Without throwing exceptions.
+ * <br><br><b>grammar:</b>
+ * <pre>
+ *     [+-]? digits* ('.' digits*)? ([eE] [+-]? digits+)? [lLfFdD]?
+ * </pre>
+ * <ul>
+ * <li>at least one digit is required before or after the dot</li>
+ * <li>a token with no suffix, no dot and no exponent is an {@link #INTEGER}. Or a {@link #LONG} if it don't fit in an integer</li>
+ * <li>a token with no suffix and with a dot or an exponent is a {@link #DOUBLE}</li>
+ * <li>the suffix <code>L</code> is only allowed for tokens with no dot and no exponent</li>
+ * <li>integral tokens that don't fit in a long are not numbers</li>
+ * </ul>
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+final public class Numbers {
+	/**
+	 * The kind of the tokens that are not numbers.
+	 */
+	final public static int NOT_A_NUMBER = 0;
+	/**
+	 * The kind of {@link Integer integer} tokens.
+	 */
+	final public static int INTEGER = 1;
+	/**
+	 * The kind of {@link Long long} tokens.
+	 */
+	final public static int LONG = 2;
+	/**
+	 * The kind of {@link Float float} tokens.
+	 */
+	final public static int FLOAT = 3;
+	/**
+	 * The kind of {@link Double double} tokens.
+	 */
+	final public static int DOUBLE = 4;
+	/**
+	 * The characters a number token can start with.
+	 */
+	final public static String LEADING = "+-.0123456789";
+
+	/**
+	 * Powers of ten that are exactly representable as doubles.
+	 */
+	final private static double[] DOUBLE_POWERS = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	/**
+	 * Powers of ten that are exactly representable as floats.
+	 */
+	final private static float[] FLOAT_POWERS = {
+			1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+	/**
+	 * A mantissa bigger than this can't be multiplied by 10 without a possible overflow.
+	 */
+	final private static long LIMIT = Long.MAX_VALUE / 10;
+
+	/**
+	 * This is a util class. And shall not be instanced as an object.
+	 */
+	private Numbers() {
+	}
+
+	/**
+	 * Get the kind of the given token.
+	 *
+	 * @param token to be classified
+	 * @return the kind of the given token ({@link #NOT_A_NUMBER}, {@link #INTEGER}, {@link #LONG}, {@link #FLOAT} or {@link #DOUBLE})
+	 */
+	public static int classify(CharSequence token) {
+		return Numbers.classify(token, 0, token.length());
+	}
+
+	/**
+	 * Get the kind of the given range of the given text. Without allocating any object.
+	 *
+	 * @param text  to read the token from
+	 * @param start the index where the token starts (inclusive)
+	 * @param end   the index where the token ends (exclusive)
+	 * @return the kind of the given token ({@link #NOT_A_NUMBER}, {@link #INTEGER}, {@link #LONG}, {@link #FLOAT} or {@link #DOUBLE})
+	 */
+	public static int classify(CharSequence text, int start, int end) {
+		int i = start;
+
+		if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+'))
+			i++;
+
+		boolean negative = i != start && text.charAt(start) == '-';
+		boolean digits = false, decimal = false, overflow = false;
+		long mantissa = 0;
+
+		//integer part
+		for (; i < end; i++) {
+			int digit = text.charAt(i) - '0';
+
+			if (digit < 0 || digit > 9)
+				break;
+
+			digits = true;
+			if (Numbers.overflows(mantissa, digit, negative))
+				overflow = true;
+			else mantissa = mantissa * 10 + digit;
+		}
+
+		//fraction part
+		if (i < end && text.charAt(i) == '.')
+			for (decimal = true, i++; i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9'; i++)
+				digits = true;
+
+		if (!digits)
+			return NOT_A_NUMBER;
+
+		//exponent part
+		if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+			decimal = true;
+			i = Numbers.exponentEnd(text, i + 1, end);
+
+			if (i == -1)
+				return NOT_A_NUMBER;
+		}
+
+		if (i == end)
+			return decimal ? DOUBLE :
+				   overflow ? NOT_A_NUMBER :
+				   Numbers.fitsInteger(mantissa, negative) ? INTEGER : LONG;
+		if (i != end - 1)
+			return NOT_A_NUMBER;
+
+		switch (text.charAt(i)) {
+			case 'l':
+			case 'L':
+				return decimal || overflow ? NOT_A_NUMBER : LONG;
+			case 'f':
+			case 'F':
+				return FLOAT;
+			case 'd':
+			case 'D':
+				return DOUBLE;
+			default:
+				return NOT_A_NUMBER;
+		}
+	}
+
+	/**
+	 * Parse the given token.
+	 *
+	 * @param token to be parsed
+	 * @return the number of the given token. Or null if it is not a number
+	 * @see #parse(CharSequence, int, int)
+	 */
+	public static Number parse(CharSequence token) {
+		return Numbers.parse(token, 0, token.length());
+	}
+
+	/**
+	 * Parse the given range of the given text. The token is classified and parsed in the same pass. Doubles and floats with a few digits and a
+	 * small exponent are computed exactly from their digits. Other doubles and floats are delegated to {@link Double#parseDouble(String)} and
+	 * {@link Float#parseFloat(String)}.
+	 *
+	 * @param text  to read the token from
+	 * @param start the index where the token starts (inclusive)
+	 * @param end   the index where the token ends (exclusive)
+	 * @return the number of the given token ({@link Integer}, {@link Long}, {@link Float} or {@link Double}). Or null if it is not a number
+	 */
+	public static Number parse(CharSequence text, int start, int end) {
+		int i = start;
+
+		if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+'))
+			i++;
+
+		boolean negative = i != start && text.charAt(start) == '-';
+		boolean digits = false, decimal = false, overflow = false;
+		long mantissa = 0;
+		//the number of significant digits. And the power of ten to be applied to the mantissa
+		int precision = 0, scale = 0;
+
+		//integer part
+		for (; i < end; i++) {
+			int digit = text.charAt(i) - '0';
+
+			if (digit < 0 || digit > 9)
+				break;
+
+			digits = true;
+			if (mantissa != 0 || digit != 0)
+				precision++;
+			if (Numbers.overflows(mantissa, digit, negative))
+				overflow = true;
+			else mantissa = mantissa * 10 + digit;
+		}
+
+		//fraction part
+		if (i < end && text.charAt(i) == '.')
+			for (decimal = true, i++; i < end; i++) {
+				int digit = text.charAt(i) - '0';
+
+				if (digit < 0 || digit > 9)
+					break;
+
+				digits = true;
+				if (mantissa != 0 || digit != 0)
+					precision++;
+				if (Numbers.overflows(mantissa, digit, false)) {
+					overflow = true;
+				} else {
+					mantissa = mantissa * 10 + digit;
+					scale--;
+				}
+			}
+
+		if (!digits)
+			return null;
+
+		//exponent part
+		if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+			int e = i + 1;
+			decimal = true;
+			i = Numbers.exponentEnd(text, e, end);
+
+			if (i == -1)
+				return null;
+
+			int exponent = 0;
+			for (int j = text.charAt(e) == '-' || text.charAt(e) == '+' ? e + 1 : e; j < i; j++)
+				//big exponents are delegated to the slow path anyway
+				exponent = Math.min(exponent * 10 + text.charAt(j) - '0', 100000);
+
+			scale += text.charAt(e) == '-' ? -exponent : exponent;
+		}
+
+		int kind;
+		if (i == end) {
+			if (!decimal) {
+				if (overflow)
+					return null;
+
+				long value = negative ? -mantissa : mantissa;
+
+				if (Numbers.fitsInteger(mantissa, negative))
+					return (int) value;
+
+				return value;
+			}
+
+			kind = DOUBLE;
+		} else if (i == end - 1) {
+			switch (text.charAt(i)) {
+				case 'l':
+				case 'L':
+					if (decimal || overflow)
+						return null;
+
+					return negative ? -mantissa : mantissa;
+				case 'f':
+				case 'F':
+					kind = FLOAT;
+					break;
+				case 'd':
+				case 'D':
+					kind = DOUBLE;
+					break;
+				default:
+					return null;
+			}
+		} else {
+			return null;
+		}
+
+		if (kind == FLOAT) {
+			//fast path: both the mantissa and the power of ten are exact floats. So the result is correctly rounded
+			if (!overflow && precision <= 7 && scale >= -10 && scale <= 10) {
+				float value = scale < 0 ?
+							  (float) mantissa / FLOAT_POWERS[-scale] :
+							  (float) mantissa * FLOAT_POWERS[scale];
+				return negative ? -value : value;
+			}
+
+			return Float.parseFloat(text.subSequence(start, end).toString());
+		}
+
+		//fast path: both the mantissa and the power of ten are exact doubles. So the result is correctly rounded
+		if (!overflow && precision <= 15 && scale >= -22 && scale <= 22) {
+			double value = scale < 0 ?
+						   (double) mantissa / DOUBLE_POWERS[-scale] :
+						   (double) mantissa * DOUBLE_POWERS[scale];
+			return negative ? -value : value;
+		}
+
+		return Double.parseDouble(text.subSequence(start, end).toString());
+	}
+
+	/**
+	 * Find where the exponent digits that starts at the given index ends.
+	 *
+	 * @param text  to read the exponent from
+	 * @param start the index after the 'e' character
+	 * @param end   the index where the token ends
+	 * @return the index after the last digit of the exponent. Or -1 if there is no exponent digits
+	 */
+	private static int exponentEnd(CharSequence text, int start, int end) {
+		int i = start;
+
+		if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+'))
+			i++;
+
+		int digits = i;
+		while (i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9')
+			i++;
+
+		return i == digits ? -1 : i;
+	}
+
+	/**
+	 * Check if the given magnitude fits in an integer.
+	 *
+	 * @param magnitude the absolute value (or {@link Long#MIN_VALUE})
+	 * @param negative  whether the value is negative or not
+	 * @return whether the value fits in an integer or not
+	 */
+	private static boolean fitsInteger(long magnitude, boolean negative) {
+		return magnitude >= 0 && magnitude <= (negative ? 2147483648L : Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Check if appending the given digit to the given magnitude will overflow a long.
+	 *
+	 * @param magnitude the absolute value read so far (or {@link Long#MIN_VALUE} if it is exactly the negative limit)
+	 * @param digit     to be appended
+	 * @param negative  whether the value is negative or not
+	 * @return whether appending the digit will overflow or not
+	 */
+	private static boolean overflows(long magnitude, int digit, boolean negative) {
+		//Long.MIN_VALUE is the magnitude of the negative limit (that wrapped around)
+		return magnitude < 0 || magnitude > LIMIT || magnitude == LIMIT && digit > (negative ? 8 : 7);
+	}
+}
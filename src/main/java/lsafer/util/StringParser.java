@@ -10,14 +10,17 @@
  */
 package lsafer.util;
 
+import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An abstract for string parsers. The purpose of string-parsers is to parse strings into objects. Or stringify objects into strings. To whether store
@@ -33,18 +36,50 @@ import java.util.Map;
  * </ul>
  *
  * @author LSaferSE
- * @version 2 release (28-Sep-19)
+ * @version 4 release (17-Oct-2026)
  * @since 28-Sep-19
  */
 public abstract class StringParser {
 	/**
-	 * A map that stores previously solved parser-methods to improve performance.
+	 * The compiled dispatch tables of the parser classes. (computed once for each class)
 	 */
-	final protected Map<String, Method> parsers = new HashMap<>();
+	final private static ClassValue<Dispatcher> dispatchers = new ClassValue<Dispatcher>() {
+		@Override
+		protected Dispatcher computeValue(Class<?> type) {
+			Dispatcher dispatcher = Dispatcher.generated(type);
+			return dispatcher == null ? Dispatcher.reflect(type) : dispatcher;
+		}
+	};
+
 	/**
-	 * A map that stores previously solved stringifier-methods to improve performance.
+	 * The parsing methods queried using {@link #queryParsingMethod(Class)}. Mapped to the names of the types they return.
+	 *
+	 * @deprecated the methods are dispatched through the {@link #dispatcher()} of this parser. This map only keeps the results of
+	 * {@link #queryParsingMethod(Class)}. (concurrent. Since the parser may be shared across threads)
 	 */
-	final protected Map<String, Method> stringers = new HashMap<>();
+	@Deprecated
+	final protected Map<String, Method> parsers = new ConcurrentHashMap<>();
+	/**
+	 * The stringing methods queried using {@link #queryStringingMethod(Class)}. Mapped to the names of the types they were queried for.
+	 *
+	 * @deprecated the methods are dispatched through the {@link #dispatcher()} of this parser. This map only keeps the results of
+	 * {@link #queryStringingMethod(Class)}. (concurrent. Since the parser may be shared across threads)
+	 */
+	@Deprecated
+	final protected Map<String, Method> stringers = new ConcurrentHashMap<>();
+	/**
+	 * The table to deduplicate the strings created while parsing with. (null to not deduplicate)
+	 */
+	public StringPool strings;
+
+	/**
+	 * Get the compiled dispatch table of the class of this parser.
+	 *
+	 * @return the dispatch table of this parser
+	 */
+	protected Dispatcher dispatcher() {
+		return StringParser.dispatchers.get(this.getClass());
+	}
 
 	/**
 	 * Parse the given string to an object that matches it.
@@ -56,34 +91,28 @@ public abstract class StringParser {
 		Class<?> klass = this.queryClass(string);
 
 		if (klass != null) {
-			Method parser = this.queryParsingMethod(klass);
+			Dispatcher.Parser parser = this.dispatcher().parser(klass);
 
 			if (parser != null)
-				try {
-					return parser.invoke(this, string);
-				} catch (IllegalAccessException | InvocationTargetException e) {
-					throw new RuntimeException(e);
-				}
+				return parser.invoker.parse(this, string);
 		}
 
 		return string;
 	}
 
 	/**
-	 * Query what's the suitable class for the given string.
+	 * Query what's the suitable class for the given string. The switching methods are tried by their {@link SwitchingMethod#priority()} (then by
+	 * their names). Skipping the methods that can't match the first character of the given string. (see {@link SwitchingMethod#leading()})
 	 *
 	 * @param string to query a suitable class for
 	 * @return the suitable class for the given string
 	 */
 	public Class<?> queryClass(String string) {
-		for (Method method : this.getClass().getMethods())
-			if (method.isAnnotationPresent(SwitchingMethod.class))
-				try {
-					if ((boolean) method.invoke(this, string))
-						return method.getAnnotation(SwitchingMethod.class).value();
-				} catch (IllegalAccessException | InvocationTargetException e) {
-					throw new RuntimeException(e);
-				}
+		Dispatcher dispatcher = this.dispatcher();
+
+		for (Dispatcher.Switch candidate : string.isEmpty() ? dispatcher.unrouted : dispatcher.candidates(string.charAt(0)))
+			if (candidate.invoker.test(this, string))
+				return candidate.type;
 
 		return Object.class;
 	}
@@ -94,45 +123,38 @@ public abstract class StringParser {
 	 * @param type to query a method for
 	 * @return the method to parse the given type. Or null if this class don't have one
 	 */
+	@SuppressWarnings("deprecation")
 	public Method queryParsingMethod(Class<?> type) {
-		String key = type.getName();
-
-		if (this.parsers.containsKey(key))
-			return this.parsers.get(key);
+		Dispatcher.Parser parser = this.dispatcher().parser(type);
 
-		for (Method method : this.getClass().getMethods())
-			if (method.isAnnotationPresent(ParsingMethod.class) &&
-				method.getReturnType() == type) {
-				this.parsers.put(key, method);
-				return method;
-			}
+		if (parser == null)
+			return null;
 
-		return null;
+		Method method = parser.method(this.getClass());
+		this.parsers.put(type.getName(), method);
+		return method;
 	}
 
 	/**
-	 * Query what's the method to stringify the given type.
+	 * Query what's the method to stringify the given type. The stringing method with the most specific parameter type the given type is
+	 * assignable to. (solved once for each type. Including the types that have no stringing method)
 	 *
 	 * @param type to query a method for
 	 * @return the method to stringify the given type. Or null if this class don't have one
 	 */
+	@SuppressWarnings("deprecation")
 	public Method queryStringingMethod(Class<?> type) {
 		if (type.isPrimitive())
 			type = Classes.objective(type);
 
-		String key = type.getName();
+		Dispatcher.Stringer stringer = this.dispatcher().stringer(type);
 
-		if (this.stringers.containsKey(key))
-			return this.stringers.get(key);
+		if (stringer == null)
+			return null;
 
-		for (Method method : this.getClass().getMethods())
-			if (method.isAnnotationPresent(StringingMethod.class) &&
-				method.getParameterTypes()[0].isAssignableFrom(type)) {
-				this.stringers.put(key, method);
-				return method;
-			}
-
-		return null;
+		Method method = stringer.method(this.getClass());
+		this.stringers.put(type.getName(), method);
+		return method;
 	}
 
 	/**
@@ -158,21 +180,535 @@ public abstract class StringParser {
 		if (object.getClass().isArray() && object.getClass().getComponentType().isPrimitive())
 			object = Arrays.objective(object);
 
-		Method method = this.queryStringingMethod(object.getClass());
+		Dispatcher.Stringer stringer = this.dispatcher().stringer(object.getClass());
+
+		return stringer == null ? String.valueOf(object) : stringer.invoker.stringify(this, object, shift);
+	}
+
+	/**
+	 * Stringify the given object into the given appendable. Depending on the stringing methods in this parser.
+	 * <br>
+	 * Parsers that can write their texts progressively should override this. To avoid building the whole text as one string.
+	 *
+	 * @param appendable to write the text to
+	 * @param object     to be stringed
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void write(Appendable appendable, Object object) throws IOException {
+		appendable.append(this.stringify(object));
+	}
+
+	/**
+	 * Get a string equal to the given range of the given characters. Deduplicated using the {@link #strings} table of this (if any).
+	 *
+	 * @param chars the characters
+	 * @param start the index of the first character (inclusive)
+	 * @param end   the index after the last character (exclusive)
+	 * @return a string equal to the given range
+	 */
+	public String string(char[] chars, int start, int end) {
+		StringPool strings = this.strings;
+		return strings == null ? new String(chars, start, end - start) : strings.get(chars, start, end);
+	}
+
+	/**
+	 * Get a string equal to the given range of the given characters. Deduplicated using the {@link #strings} table of this (if any).
+	 *
+	 * @param text  the characters
+	 * @param start the index of the first character (inclusive)
+	 * @param end   the index after the last character (exclusive)
+	 * @return a string equal to the given range
+	 */
+	public String string(CharSequence text, int start, int end) {
+		StringPool strings = this.strings;
+		return strings == null ? text.subSequence(start, end).toString() : strings.get(text, start, end);
+	}
+
+	/**
+	 * The stringing, parsing and switching methods of a parser class. Compiled once. So dispatching needs no reflection.
+	 * <br>
+	 * A parser class can have a generated dispatcher (see lsafer.processor.DispatcherProcessor). A class in the same package named after the
+	 * parser class with the suffix "_Dispatcher" that extends this class. If the generated dispatcher is not found, the annotated methods of the
+	 * parser class are compiled into method handles at runtime.
+	 */
+	public static class Dispatcher {
+		/**
+		 * The type of the switching handles. (parser, string) -&gt; boolean
+		 */
+		final private static MethodType SWITCHING = MethodType.methodType(boolean.class, StringParser.class, String.class);
+		/**
+		 * The type of the parsing handles. (parser, string) -&gt; object
+		 */
+		final private static MethodType PARSING = MethodType.methodType(Object.class, StringParser.class, String.class);
+		/**
+		 * The type of the stringing handles. (parser, object, shift) -&gt; string
+		 */
+		final private static MethodType STRINGING = MethodType.methodType(String.class, StringParser.class, Object.class, String.class);
 
-		if (method != null)
+		/**
+		 * The parsing methods mapped to the type they return. (unmodifiable)
+		 */
+		final private Map<Class<?>, Parser> parsers;
+		/**
+		 * The switching methods that can match each (ASCII) first character. Ordered like {@link #switches}.
+		 */
+		final private Switch[][] routes = new Switch[128][];
+		/**
+		 * The stringing method solved for each type. (empty if there is none)
+		 */
+		final private ClassValue<Optional<Stringer>> solved = new ClassValue<Optional<Stringer>>() {
+			@Override
+			protected Optional<Stringer> computeValue(Class<?> type) {
+				return Optional.ofNullable(Dispatcher.this.solve(type));
+			}
+		};
+		/**
+		 * The stringing methods. Ordered by their names.
+		 */
+		final private Stringer[] stringers;
+		/**
+		 * The switching methods. Ordered by their priority (then by their names).
+		 */
+		final private Switch[] switches;
+		/**
+		 * The switching methods that don't declare their leading characters. Ordered like {@link #switches}.
+		 */
+		final private Switch[] unrouted;
+
+		/**
+		 * Initialize this. The given methods can be in any order.
+		 *
+		 * @param switches  the switching methods
+		 * @param parsers   the parsing methods
+		 * @param stringers the stringing methods
+		 */
+		protected Dispatcher(Switch[] switches, Parser[] parsers, Stringer[] stringers) {
+			switches = switches.clone();
+			parsers = parsers.clone();
+			stringers = stringers.clone();
+
+			//a deterministic order. Regardless of the order the methods are found in
+			java.util.Arrays.sort(switches, Entry.ORDER);
+			java.util.Arrays.sort(parsers, Entry.ORDER);
+			java.util.Arrays.sort(stringers, Entry.ORDER);
+
+			//stable sort. So methods with the same priority stay ordered by their names
+			java.util.Arrays.sort(switches, Comparator.comparingInt((Switch s) -> s.priority).reversed());
+
+			Map<Class<?>, Parser> types = new HashMap<>();
+			for (Parser parser : parsers)
+				types.putIfAbsent(parser.type, parser);
+
+			this.parsers = java.util.Collections.unmodifiableMap(types);
+			this.switches = switches;
+			this.stringers = stringers;
+			this.unrouted = java.util.Arrays.stream(switches).filter(s -> !s.routed()).toArray(Switch[]::new);
+
+			for (int i = 0; i < this.routes.length; i++) {
+				char point = (char) i;
+				this.routes[i] = java.util.Arrays.stream(switches).filter(s -> !s.routed() || s.leading.indexOf(point) != -1).toArray(Switch[]::new);
+			}
+		}
+
+		/**
+		 * Get the generated dispatcher of the given parser class.
+		 *
+		 * @param klass the parser class
+		 * @return the generated dispatcher of the given class. Or null if it has none
+		 */
+		public static Dispatcher generated(Class<?> klass) {
 			try {
-				switch (method.getParameters().length) {
-					case 1:
-						return (String) method.invoke(this, object);
-					case 2:
-						return (String) method.invoke(this, object, shift);
+				return Class.forName(klass.getName() + "_Dispatcher", true, klass.getClassLoader())
+						.asSubclass(Dispatcher.class)
+						.getConstructor()
+						.newInstance();
+			} catch (ClassNotFoundException | ClassCastException ignored) {
+				return null;
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Compile the annotated methods of the given parser class into method handles.
+		 *
+		 * @param klass the parser class
+		 * @return a dispatcher of the annotated methods of the given class
+		 */
+		public static Dispatcher reflect(Class<?> klass) {
+			List<Switch> switches = new ArrayList<>();
+			List<Parser> parsers = new ArrayList<>();
+			List<Stringer> stringers = new ArrayList<>();
+
+			for (Method method : klass.getMethods()) {
+				SwitchingMethod switching = method.getAnnotation(SwitchingMethod.class);
+
+				if (switching != null) {
+					MethodHandle handle = Dispatcher.handle(method, SWITCHING);
+
+					switches.add(new Switch(method.getName(), switching.value(), switching.priority(), switching.leading(), (parser, string) -> {
+						try {
+							return (boolean) handle.invokeExact(parser, string);
+						} catch (RuntimeException | Error e) {
+							throw e;
+						} catch (Throwable e) {
+							throw new RuntimeException(e);
+						}
+					}));
+				}
+				if (method.isAnnotationPresent(ParsingMethod.class)) {
+					MethodHandle handle = Dispatcher.handle(method, PARSING);
+
+					parsers.add(new Parser(method.getName(), method.getReturnType(), (parser, string) -> {
+						try {
+							return (Object) handle.invokeExact(parser, string);
+						} catch (RuntimeException | Error e) {
+							throw e;
+						} catch (Throwable e) {
+							throw new RuntimeException(e);
+						}
+					}));
 				}
-			} catch (IllegalAccessException | InvocationTargetException e) {
+				if (method.isAnnotationPresent(StringingMethod.class)) {
+					MethodHandle handle = method.getParameterCount() == 1 ?
+										  MethodHandles.dropArguments(Dispatcher.handle(method, STRINGING.dropParameterTypes(2, 3)), 2, String.class) :
+										  Dispatcher.handle(method, STRINGING);
+
+					stringers.add(new Stringer(method.getName(), method.getParameterTypes(), (parser, object, shift) -> {
+						try {
+							return (String) handle.invokeExact(parser, object, shift);
+						} catch (RuntimeException | Error e) {
+							throw e;
+						} catch (Throwable e) {
+							throw new RuntimeException(e);
+						}
+					}));
+				}
+			}
+
+			return new Dispatcher(switches.toArray(new Switch[0]), parsers.toArray(new Parser[0]), stringers.toArray(new Stringer[0]));
+		}
+
+		/**
+		 * Get a method handle of the given method. Adapted to the given type.
+		 *
+		 * @param method to get a handle for
+		 * @param type   the type of the returned handle
+		 * @return a handle of the given method
+		 */
+		private static MethodHandle handle(Method method, MethodType type) {
+			try {
+				//the declaring class may not be public (ex. anonymous parsers)
+				method.setAccessible(true);
+			} catch (RuntimeException ignored) {
+			}
+
+			try {
+				return MethodHandles.lookup().unreflect(method).asType(type);
+			} catch (IllegalAccessException e) {
 				throw new RuntimeException(e);
 			}
+		}
+
+		/**
+		 * Get the switching methods that can match a string starting with the given character. (the array of this dispatcher itself. To be
+		 * iterated without copying)
+		 *
+		 * @param point the first character of the string
+		 * @return the switching methods to be tried (in order)
+		 */
+		Switch[] candidates(char point) {
+			return point < this.routes.length ? this.routes[point] : this.unrouted;
+		}
+
+		/**
+		 * Get the parsing method for the given type.
+		 *
+		 * @param type the type the parsing method returns
+		 * @return the parsing method for the given type. Or null if there is none
+		 */
+		public Parser parser(Class<?> type) {
+			return this.parsers.get(type);
+		}
+
+		/**
+		 * Get the parsing methods of this dispatcher.
+		 *
+		 * @return an unmodifiable map of the parsing methods mapped to the type they return
+		 */
+		public Map<Class<?>, Parser> parsers() {
+			return this.parsers;
+		}
+
+		/**
+		 * Get the switching methods that can match a string starting with the given character.
+		 *
+		 * @param point the first character of the string
+		 * @return an unmodifiable list of the switching methods to be tried (in order)
+		 */
+		public List<Switch> route(char point) {
+			return java.util.Collections.unmodifiableList(java.util.Arrays.asList(this.candidates(point)));
+		}
+
+		/**
+		 * Find the stringing method for the given type. The method with the most specific parameter type the given type is assignable to. (ties
+		 * are broken by the names of the methods)
+		 *
+		 * @param type to find a stringing method for (not primitive)
+		 * @return the stringing method for the given type. Or null if there is none
+		 */
+		protected Stringer solve(Class<?> type) {
+			Stringer solved = null;
+
+			for (Stringer stringer : this.stringers)
+				if (stringer.type.isAssignableFrom(type) && (solved == null || solved.type != stringer.type && solved.type.isAssignableFrom(stringer.type)))
+					solved = stringer;
+
+			return solved;
+		}
+
+		/**
+		 * Get the stringing method for the given type. The method with the most specific parameter type the given type is assignable to. (solved
+		 * once for each type)
+		 *
+		 * @param type to get a stringing method for (not primitive)
+		 * @return the stringing method for the given type. Or null if there is none
+		 */
+		public Stringer stringer(Class<?> type) {
+			return this.solved.get(type).orElse(null);
+		}
+
+		/**
+		 * Get the stringing methods of this dispatcher.
+		 *
+		 * @return an unmodifiable list of the stringing methods. Ordered by their names
+		 */
+		public List<Stringer> stringers() {
+			return java.util.Collections.unmodifiableList(java.util.Arrays.asList(this.stringers));
+		}
+
+		/**
+		 * Get the switching methods of this dispatcher.
+		 *
+		 * @return an unmodifiable list of the switching methods. Ordered by their priority (then by their names)
+		 */
+		public List<Switch> switches() {
+			return java.util.Collections.unmodifiableList(java.util.Arrays.asList(this.switches));
+		}
+
+		/**
+		 * A method of a parser class.
+		 */
+		public abstract static class Entry {
+			/**
+			 * The order of the entries. By the names of the methods. Then by their parameter types.
+			 */
+			final static Comparator<Entry> ORDER = Comparator.comparing((Entry e) -> e.name).thenComparing(Entry::signature);
+
+			/**
+			 * The name of the method.
+			 */
+			final public String name;
+			/**
+			 * The parameter types of the method.
+			 */
+			final public Class<?>[] parameters;
+
+			/**
+			 * Initialize this.
+			 *
+			 * @param name       the name of the method
+			 * @param parameters the parameter types of the method
+			 */
+			Entry(String name, Class<?>[] parameters) {
+				this.name = name;
+				this.parameters = parameters;
+			}
+
+			/**
+			 * Get the reflected method of this entry.
+			 *
+			 * @param klass the parser class
+			 * @return the method of this entry in the given class
+			 */
+			public Method method(Class<?> klass) {
+				try {
+					return klass.getMethod(this.name, this.parameters);
+				} catch (NoSuchMethodException e) {
+					throw new RuntimeException(e);
+				}
+			}
+
+			/**
+			 * Get the names of the parameter types of this entry.
+			 *
+			 * @return the names of the parameter types of this
+			 */
+			String signature() {
+				StringBuilder builder = new StringBuilder();
+
+				for (Class<?> parameter : this.parameters)
+					builder.append(parameter.getName()).append(',');
+
+				return builder.toString();
+			}
+		}
+
+		/**
+		 * A parsing method.
+		 */
+		final public static class Parser extends Entry {
+			/**
+			 * The invoker of the parsing method.
+			 */
+			final public Invoker invoker;
+			/**
+			 * The type the parsing method returns.
+			 */
+			final public Class<?> type;
+
+			/**
+			 * Initialize this.
+			 *
+			 * @param name    the name of the parsing method
+			 * @param type    the type the parsing method returns
+			 * @param invoker the invoker of the parsing method
+			 */
+			public Parser(String name, Class<?> type, Invoker invoker) {
+				super(name, new Class<?>[]{String.class});
+				this.type = type;
+				this.invoker = invoker;
+			}
+
+			/**
+			 * Invokes a parsing method.
+			 */
+			@FunctionalInterface
+			public interface Invoker {
+				/**
+				 * Invoke the parsing method.
+				 *
+				 * @param parser the parser to invoke the method on
+				 * @param string to be parsed
+				 * @return the parsed object
+				 */
+				Object parse(StringParser parser, String string);
+			}
+		}
+
+		/**
+		 * A stringing method.
+		 */
+		final public static class Stringer extends Entry {
+			/**
+			 * The invoker of the stringing method.
+			 */
+			final public Invoker invoker;
+			/**
+			 * The type the stringing method accepts.
+			 */
+			final public Class<?> type;
 
-		return String.valueOf(object);
+			/**
+			 * Initialize this.
+			 *
+			 * @param name       the name of the stringing method
+			 * @param parameters the parameter types of the stringing method. (the object. And optionally the shift)
+			 * @param invoker    the invoker of the stringing method
+			 */
+			public Stringer(String name, Class<?>[] parameters, Invoker invoker) {
+				super(name, parameters);
+				this.type = parameters[0];
+				this.invoker = invoker;
+			}
+
+			/**
+			 * Invokes a stringing method.
+			 */
+			@FunctionalInterface
+			public interface Invoker {
+				/**
+				 * Invoke the stringing method.
+				 *
+				 * @param parser the parser to invoke the method on
+				 * @param object to be stringed
+				 * @param shift  the shift that the string should have
+				 * @return a string representation of the object
+				 */
+				String stringify(StringParser parser, Object object, String shift);
+			}
+		}
+
+		/**
+		 * A switching method.
+		 */
+		final public static class Switch extends Entry {
+			/**
+			 * The invoker of the switching method.
+			 */
+			final public Invoker invoker;
+			/**
+			 * The characters the strings the switching method matches can start with. (empty if not declared)
+			 */
+			final public String leading;
+			/**
+			 * The priority of the switching method.
+			 */
+			final public int priority;
+			/**
+			 * The type the switching method is looking for.
+			 */
+			final public Class<?> type;
+
+			/**
+			 * Initialize this.
+			 *
+			 * @param name     the name of the switching method
+			 * @param type     the type the switching method is looking for
+			 * @param priority the priority of the switching method
+			 * @param leading  the characters the strings the switching method matches can start with
+			 * @param invoker  the invoker of the switching method
+			 */
+			public Switch(String name, Class<?> type, int priority, String leading, Invoker invoker) {
+				super(name, new Class<?>[]{String.class});
+				this.type = type;
+				this.priority = priority;
+				this.leading = leading;
+				this.invoker = invoker;
+			}
+
+			/**
+			 * Check if the switching method should be tried only for its leading characters.
+			 *
+			 * @return whether the switching method is routed by its leading characters or not
+			 */
+			boolean routed() {
+				if (this.leading.isEmpty())
+					return false;
+
+				//non-ASCII leading characters are not routed
+				for (int i = 0; i < this.leading.length(); i++)
+					if (this.leading.charAt(i) >= 128)
+						return false;
+
+				return true;
+			}
+
+			/**
+			 * Invokes a switching method.
+			 */
+			@FunctionalInterface
+			public interface Invoker {
+				/**
+				 * Invoke the switching method.
+				 *
+				 * @param parser the parser to invoke the method on
+				 * @param string to be checked
+				 * @return whether the given string is of the type of the switching method or not
+				 */
+				boolean test(StringParser parser, String string);
+			}
+		}
 	}
 
 	/**
@@ -197,6 +733,26 @@ public abstract class StringParser {
 	@Retention(RetentionPolicy.RUNTIME)
 	@Target(ElementType.METHOD)
 	protected @interface SwitchingMethod {
+		/**
+		 * Tells what characters a string the annotated method matches can start with. So the annotated method is skipped for strings starting
+		 * with other characters (or empty strings). An empty value (the default) means the annotated method can match any string.
+		 * <br><br><b>example:</b>
+		 * <pre>
+		 *     &#64;SwitchingMethod(value = Boolean.class, leading = "tf")
+		 * </pre>
+		 *
+		 * @return the characters a string the annotated method matches can start with
+		 */
+		String leading() default "";
+
+		/**
+		 * Tells the order of the annotated method. Methods with higher priority are checked first. (methods with the same priority are
+		 * ordered by their names)
+		 *
+		 * @return the priority of the annotated method
+		 */
+		int priority() default 0;
+
 		/**
 		 * Tells what class the annotated method is looking for.
 		 *
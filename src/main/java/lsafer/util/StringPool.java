@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.util;
+
+/**
+ * A bounded table of strings to deduplicate the strings created while parsing. A lookup is keyed on a range of characters. So no string is
+ * created when the range is already in the table.
+ * <br>
+ * The table is a fixed size array indexed by the hash of the characters. A newer string replaces the older string in the same slot. So the
+ * table never grows.
+ * <p>
+ * Note: this is safe to be used by multiple threads without locking. (a racing thread may miss or replace a slot. But it always gets a string
+ * equal to the given characters)
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public class StringPool {
+	/**
+	 * The maximum length of the strings to be pooled. (longer strings are created without pooling)
+	 */
+	final public int maxLength;
+	/**
+	 * The mask to get a slot index from a hash.
+	 */
+	final protected int mask;
+	/**
+	 * The slots of this table.
+	 */
+	final protected String[] table;
+
+	/**
+	 * Initialize this with 1024 slots. And strings up to 64 characters.
+	 */
+	public StringPool() {
+		this(1024, 64);
+	}
+
+	/**
+	 * Initialize this.
+	 *
+	 * @param capacity  the number of slots (rounded up to a power of two)
+	 * @param maxLength the maximum length of the strings to be pooled
+	 */
+	public StringPool(int capacity, int maxLength) {
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		this.table = new String[size];
+		this.mask = size - 1;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * Get a string equal to the given range of the given characters.
+	 *
+	 * @param chars the characters
+	 * @param start the index of the first character (inclusive)
+	 * @param end   the index after the last character (exclusive)
+	 * @return a pooled string equal to the given range
+	 */
+	public String get(char[] chars, int start, int end) {
+		int length = end - start;
+
+		if (length > this.maxLength)
+			return new String(chars, start, length);
+
+		int hash = 0;
+		for (int i = start; i < end; i++)
+			hash = 31 * hash + chars[i];
+
+		int index = StringPool.spread(hash) & this.mask;
+		String string = this.table[index];
+
+		if (string != null && string.length() == length && string.hashCode() == hash) {
+			int i = 0;
+			while (i < length && string.charAt(i) == chars[start + i])
+				i++;
+
+			if (i == length)
+				return string;
+		}
+
+		return this.table[index] = new String(chars, start, length);
+	}
+
+	/**
+	 * Get a string equal to the given range of the given characters.
+	 *
+	 * @param text  the characters
+	 * @param start the index of the first character (inclusive)
+	 * @param end   the index after the last character (exclusive)
+	 * @return a pooled string equal to the given range
+	 */
+	public String get(CharSequence text, int start, int end) {
+		int length = end - start;
+
+		if (length > this.maxLength)
+			return text.subSequence(start, end).toString();
+
+		int hash = 0;
+		for (int i = start; i < end; i++)
+			hash = 31 * hash + text.charAt(i);
+
+		int index = StringPool.spread(hash) & this.mask;
+		String string = this.table[index];
+
+		if (string != null && string.length() == length && string.hashCode() == hash) {
+			int i = 0;
+			while (i < length && string.charAt(i) == text.charAt(start + i))
+				i++;
+
+			if (i == length)
+				return string;
+		}
+
+		return this.table[index] = text.subSequence(start, end).toString();
+	}
+
+	/**
+	 * Get the pooled instance of the given string. Or pool the given string if it is not pooled.
+	 *
+	 * @param string to be deduplicated
+	 * @return the pooled string equal to the given string
+	 */
+	public String get(String string) {
+		if (string.length() > this.maxLength)
+			return string;
+
+		int index = StringPool.spread(string.hashCode()) & this.mask;
+		String pooled = this.table[index];
+
+		if (string.equals(pooled))
+			return pooled;
+
+		return this.table[index] = string;
+	}
+
+	/**
+	 * Spread the higher bits of the given hash to the lower bits. (the lower bits are the ones used to index the slots)
+	 *
+	 * @param hash to be spread
+	 * @return the spread hash
+	 */
+	private static int spread(int hash) {
+		return hash ^ hash >>> 16;
+	}
+}
@@ -32,6 +32,11 @@ public class ParsedFileHashMap<K, V> extends AbstractFileHashMap<K, V> implement
 	 * The parser to be used to parse/stringify the content from/to the file targeted by this.
 	 */
 	public StringParser parser;
+	/**
+	 * Whether to read the targeted file through a {@link lsafer.json.JSONReader} or not. (overrides {@link ParsedFileMap.Configurations#streaming()}
+	 * if true)
+	 */
+	public boolean streaming;
 
 	/**
 	 * Default constructor.
@@ -80,8 +85,24 @@ public class ParsedFileHashMap<K, V> extends AbstractFileHashMap<K, V> implement
 		this.parser = parser;
 	}
 
+	/**
+	 * Initialize this with a specific string-parser.
+	 *
+	 * @param parser    to be used to parse the targeted file
+	 * @param streaming whether to read the targeted file through a {@link lsafer.json.JSONReader} or not
+	 */
+	public ParsedFileHashMap(StringParser parser, boolean streaming) {
+		this.parser = parser;
+		this.streaming = streaming;
+	}
+
 	@Override
 	public StringParser parser() {
 		return this.parser == null ? ParsedFileMap.super.parser() : this.parser;
 	}
+
+	@Override
+	public boolean streaming() {
+		return this.streaming || ParsedFileMap.super.streaming();
+	}
 }
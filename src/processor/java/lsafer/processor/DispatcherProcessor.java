@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * An annotation processor that generates the dispatchers of the string-parsers and the casters. So they don't need reflection at startup or at
+ * call time.
+ * <br>
+ * For each (non-abstract) class that declares methods annotated with the parsing/stringing/switching/casting annotations. A class named after it
+ * with the suffix "_Dispatcher" is generated in the same package. The generated class extends the dispatcher of {@code lsafer.util.StringParser}
+ * or {@code lsafer.util.Caster}. And passes it all the annotated public methods of the class (including the inherited ones) as lambdas.
+ * <br><br><b>example:</b>
+ * <pre>
+ *     dependencies {
+ *         annotationProcessor sourceSets.processor.output
+ *     }
+ * </pre>
+ * <p>
+ * Note: the classes with no generated dispatcher (ex. subclasses compiled without this processor) are still dispatched using reflection.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+@SupportedAnnotationTypes({
+		DispatcherProcessor.CASTING,
+		DispatcherProcessor.PARSING,
+		DispatcherProcessor.STRINGING,
+		DispatcherProcessor.SWITCHING
+})
+public class DispatcherProcessor extends AbstractProcessor {
+	/**
+	 * The name of the caster class.
+	 */
+	final static String CASTER = "lsafer.util.Caster";
+	/**
+	 * The name of the casting annotation.
+	 */
+	final static String CASTING = "lsafer.util.Caster.CastingMethod";
+	/**
+	 * The name of the string-parser class.
+	 */
+	final static String PARSER = "lsafer.util.StringParser";
+	/**
+	 * The name of the parsing annotation.
+	 */
+	final static String PARSING = "lsafer.util.StringParser.ParsingMethod";
+	/**
+	 * The name of the stringing annotation.
+	 */
+	final static String STRINGING = "lsafer.util.StringParser.StringingMethod";
+	/**
+	 * The name of the switching annotation.
+	 */
+	final static String SWITCHING = "lsafer.util.StringParser.SwitchingMethod";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+		Set<TypeElement> classes = new LinkedHashSet<>();
+
+		for (TypeElement annotation : annotations)
+			for (Element element : round.getElementsAnnotatedWith(annotation))
+				if (element.getKind() == ElementKind.METHOD)
+					classes.add((TypeElement) element.getEnclosingElement());
+
+		for (TypeElement klass : classes)
+			if (this.eligible(klass))
+				try {
+					if (this.subtype(klass, PARSER))
+						this.write(klass, this.parserDispatcher(klass));
+					else if (this.subtype(klass, CASTER))
+						this.write(klass, this.casterDispatcher(klass));
+				} catch (IOException e) {
+					this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "can't write the dispatcher: " + e, klass);
+				}
+
+		//the annotations may be processed by other processors too
+		return false;
+	}
+
+	/**
+	 * Get the annotation with the given name on the given element.
+	 *
+	 * @param element    to get the annotation from
+	 * @param annotation the name of the annotation
+	 * @return the values of the annotation (with the defaults) mapped to their names. Or null if the element isn't annotated with it
+	 */
+	private Map<String, AnnotationValue> annotation(Element element, String annotation) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors())
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+				Map<String, AnnotationValue> values = new HashMap<>();
+
+				this.processingEnv.getElementUtils()
+						.getElementValuesWithDefaults(mirror)
+						.forEach((key, value) -> values.put(key.getSimpleName().toString(), value));
+
+				return values;
+			}
+
+		return null;
+	}
+
+	/**
+	 * Get the expression that casts the given object variable to the given type.
+	 *
+	 * @param type     the type to cast to
+	 * @param variable the name of the variable (of type Object) to be casted
+	 * @return the expression casting the given variable to the given type (boxed if primitive). Or the variable itself if it needs no cast
+	 */
+	private String cast(TypeMirror type, String variable) {
+		Types types = this.processingEnv.getTypeUtils();
+		String name = type.getKind().isPrimitive() ?
+					  types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString() :
+					  types.erasure(type).toString();
+
+		//a redundant cast would warn in the generated source
+		return name.equals("java.lang.Object") ? variable : "(" + name + ") " + variable;
+	}
+
+	/**
+	 * Get the body of the dispatcher of the given caster class.
+	 *
+	 * @param klass the caster class
+	 * @return the source of the constructor of the dispatcher
+	 */
+	private String casterDispatcher(TypeElement klass) {
+		StringBuilder castings = new StringBuilder();
+
+		for (ExecutableElement method : this.methods(klass)) {
+			Map<String, AnnotationValue> casting = this.annotation(method, CASTING);
+
+			if (casting == null || !this.check(method, 1, 2))
+				continue;
+
+			List<? extends VariableElement> parameters = method.getParameters();
+			String object = this.cast(parameters.get(parameters.size() - 1).asType(), "o");
+			String arguments = parameters.size() == 1 ? object : "(java.lang.Class) k, " + object;
+
+			StringBuilder exclude = new StringBuilder();
+			Object excluded = casting.get("exclude").getValue();
+			if (excluded instanceof List)
+				for (Object value : (List<?>) excluded)
+					if (value instanceof AnnotationValue && ((AnnotationValue) value).getValue() instanceof TypeMirror)
+						exclude.append(exclude.length() == 0 ? "" : ", ").append(this.literal((TypeMirror) ((AnnotationValue) value).getValue()));
+
+			castings.append("\t\t\t\tnew Casting(")
+					.append(DispatcherProcessor.string(method.getSimpleName().toString())).append(", ")
+					.append(this.parameters(method)).append(", ")
+					.append(this.literal(method.getReturnType())).append(", ")
+					.append("new Class<?>[]{").append(exclude).append("}, ")
+					.append(casting.get("subs").getValue()).append(", ")
+					.append(casting.get("supers").getValue()).append(", ")
+					.append("(c, k, o) -> ((").append(klass.getQualifiedName()).append(") c).")
+					.append(method.getSimpleName()).append("(").append(arguments).append(")),\n");
+		}
+
+		return "\t\tsuper(new Casting[]{\n" + castings + "\t\t});\n";
+	}
+
+	/**
+	 * Check if the given method has a suitable number of parameters. And report an error if it don't.
+	 *
+	 * @param method to be checked
+	 * @param min    the minimum number of parameters
+	 * @param max    the maximum number of parameters
+	 * @return whether the given method has a suitable number of parameters or not
+	 */
+	private boolean check(ExecutableElement method, int min, int max) {
+		int count = method.getParameters().size();
+
+		if (count >= min && count <= max)
+			return true;
+
+		this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "unexpected number of parameters for an annotated method", method);
+		return false;
+	}
+
+	/**
+	 * Check if a dispatcher can be generated for the given class.
+	 *
+	 * @param klass to be checked
+	 * @return whether a dispatcher can be generated for the given class or not
+	 */
+	private boolean eligible(TypeElement klass) {
+		Set<Modifier> modifiers = klass.getModifiers();
+
+		return !modifiers.contains(Modifier.ABSTRACT) && !modifiers.contains(Modifier.PRIVATE) &&
+			   (klass.getNestingKind() == NestingKind.TOP_LEVEL || klass.getNestingKind() == NestingKind.MEMBER);
+	}
+
+	/**
+	 * Get the class literal of the given type.
+	 *
+	 * @param type to get a literal for
+	 * @return the class literal of the erasure of the given type
+	 */
+	private String literal(TypeMirror type) {
+		return (type.getKind().isPrimitive() || type.getKind() == TypeKind.VOID ? type.toString() : this.processingEnv.getTypeUtils().erasure(type).toString()) +
+			   ".class";
+	}
+
+	/**
+	 * Get the public instance methods of the given class. Including the inherited ones. (like {@link Class#getMethods()})
+	 *
+	 * @param klass to get the methods of
+	 * @return the public instance methods of the given class
+	 */
+	private List<ExecutableElement> methods(TypeElement klass) {
+		List<ExecutableElement> methods = new ArrayList<>();
+
+		for (Element member : this.processingEnv.getElementUtils().getAllMembers(klass))
+			if (member.getKind() == ElementKind.METHOD &&
+				member.getModifiers().contains(Modifier.PUBLIC) &&
+				!member.getModifiers().contains(Modifier.STATIC))
+				methods.add((ExecutableElement) member);
+
+		return methods;
+	}
+
+	/**
+	 * Get the array expression of the parameter types of the given method.
+	 *
+	 * @param method to get the parameter types of
+	 * @return an array expression of the parameter types of the given method
+	 */
+	private String parameters(ExecutableElement method) {
+		StringBuilder builder = new StringBuilder("new Class<?>[]{");
+
+		for (VariableElement parameter : method.getParameters())
+			builder.append(builder.charAt(builder.length() - 1) == '{' ? "" : ", ").append(this.literal(parameter.asType()));
+
+		return builder.append("}").toString();
+	}
+
+	/**
+	 * Get the body of the dispatcher of the given parser class.
+	 *
+	 * @param klass the parser class
+	 * @return the source of the constructor of the dispatcher
+	 */
+	private String parserDispatcher(TypeElement klass) {
+		StringBuilder switches = new StringBuilder(), parsers = new StringBuilder(), stringers = new StringBuilder();
+		Name name = klass.getQualifiedName();
+
+		for (ExecutableElement method : this.methods(klass)) {
+			Map<String, AnnotationValue> switching = this.annotation(method, SWITCHING);
+			String simple = method.getSimpleName().toString();
+
+			if (switching != null && this.check(method, 1, 1))
+				switches.append("\t\t\t\tnew Switch(")
+						.append(DispatcherProcessor.string(simple)).append(", ")
+						.append(this.literal((TypeMirror) switching.get("value").getValue())).append(", ")
+						.append(switching.get("priority").getValue()).append(", ")
+						.append(DispatcherProcessor.string((String) switching.get("leading").getValue())).append(", ")
+						.append("(p, s) -> ((").append(name).append(") p).").append(simple).append("(s)),\n");
+			if (this.annotation(method, PARSING) != null && this.check(method, 1, 1))
+				parsers.append("\t\t\t\tnew Parser(")
+						.append(DispatcherProcessor.string(simple)).append(", ")
+						.append(this.literal(method.getReturnType())).append(", ")
+						.append("(p, s) -> ((").append(name).append(") p).").append(simple).append("(s)),\n");
+			if (this.annotation(method, STRINGING) != null && this.check(method, 1, 2))
+				stringers.append("\t\t\t\tnew Stringer(")
+						.append(DispatcherProcessor.string(simple)).append(", ")
+						.append(this.parameters(method)).append(", ")
+						.append("(p, o, s) -> ((").append(name).append(") p).").append(simple).append("(")
+						.append(this.cast(method.getParameters().get(0).asType(), "o"))
+						.append(method.getParameters().size() == 2 ? ", s" : "").append(")),\n");
+		}
+
+		return "\t\tsuper(new Switch[]{\n" + switches +
+			   "\t\t}, new Parser[]{\n" + parsers +
+			   "\t\t}, new Stringer[]{\n" + stringers +
+			   "\t\t});\n";
+	}
+
+	/**
+	 * Quote the given string as a java string literal.
+	 *
+	 * @param string to be quoted
+	 * @return a java string literal of the given string
+	 */
+	private static String string(String string) {
+		StringBuilder builder = new StringBuilder("\"");
+
+		for (char point : string.toCharArray())
+			if (point == '"' || point == '\\')
+				builder.append('\\').append(point);
+			else if (point < 0x20 || point > 0x7E)
+				builder.append(String.format("\\u%04x", (int) point));
+			else builder.append(point);
+
+		return builder.append('"').toString();
+	}
+
+	/**
+	 * Check if the given class is a subclass of the class with the given name.
+	 *
+	 * @param klass to be checked
+	 * @param name  the name of the super class
+	 * @return whether the given class is a subclass of the class with the given name or not
+	 */
+	private boolean subtype(TypeElement klass, String name) {
+		TypeElement type = this.processingEnv.getElementUtils().getTypeElement(name);
+		Types types = this.processingEnv.getTypeUtils();
+
+		return type != null && types.isSubtype(types.erasure(klass.asType()), types.erasure(type.asType()));
+	}
+
+	/**
+	 * Write the dispatcher of the given class.
+	 *
+	 * @param klass the class to write a dispatcher for
+	 * @param body  the source of the constructor of the dispatcher
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void write(TypeElement klass, String body) throws IOException {
+		Elements elements = this.processingEnv.getElementUtils();
+		String pkg = elements.getPackageOf(klass).getQualifiedName().toString();
+		String binary = elements.getBinaryName(klass).toString();
+		String simple = (pkg.isEmpty() ? binary : binary.substring(pkg.length() + 1)) + "_Dispatcher";
+		String parent = this.subtype(klass, PARSER) ? PARSER : CASTER;
+
+		try (Writer writer = this.processingEnv.getFiler().createSourceFile(pkg.isEmpty() ? simple : pkg + "." + simple, klass).openWriter()) {
+			if (!pkg.isEmpty())
+				writer.write("package " + pkg + ";\n\n");
+
+			writer.write("/**\n" +
+						 " * The dispatcher of {@link " + klass.getQualifiedName() + "}. Generated by " + DispatcherProcessor.class.getName() + ". (don't edit)\n" +
+						 " */\n" +
+						 "@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+						 "public final class " + simple + " extends " + parent + ".Dispatcher {\n" +
+						 "\t/**\n" +
+						 "\t * Initialize this.\n" +
+						 "\t */\n" +
+						 "\tpublic " + simple + "() {\n" +
+						 body +
+						 "\t}\n" +
+						 "}\n");
+		}
+	}
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2019, LSafer, All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * -You can edit this file (except the header).
+ * -If you have change anything in this file. You
+ *  shall mention that this file has been edited.
+ *  By adding a new header (at the bottom of this header)
+ *  with the word "Editor" on top of it.
+ */
+package lsafer.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * An annotation processor that generates the schemas of the JSObject classes. So their entries are accessed with no reflection at startup or at
+ * access time.
+ * <br>
+ * For each (non-abstract) JSObject class annotated (directly or by inheritance) with {@code lsafer.util.JSObject.Configurations}. A class named
+ * after it with the suffix "_Schema" is generated in the same package. The generated class extends {@code lsafer.util.JSObject.Schema}. With the
+ * keys and the flags of the fields solved at compile time (the same way the schema solves them at runtime). And the fields read and written
+ * directly.
+ * <p>
+ * Note: the final fields and the transient fields (that can be accessed by their overridden keys) are still reflected at runtime.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+@SupportedAnnotationTypes(SchemaProcessor.CONFIGURATIONS)
+public class SchemaProcessor extends AbstractProcessor {
+	/**
+	 * The name of the configurations annotation.
+	 */
+	final static String CONFIGURATIONS = "lsafer.util.JSObject.Configurations";
+	/**
+	 * The name of the entry-field annotation.
+	 */
+	final static String ENTRY_FIELD = "lsafer.util.JSObject.EntryField";
+	/**
+	 * The name of the JSObject interface.
+	 */
+	final static String JSOBJECT = "lsafer.util.JSObject";
+
+	/**
+	 * The primitive types that have accessors in {@code lsafer.util.JSObject.Property}. Mapped to the suffixes of the accessors.
+	 */
+	final private static Map<TypeKind, String> ACCESSORS = new EnumMap<>(TypeKind.class);
+
+	static {
+		ACCESSORS.put(TypeKind.BOOLEAN, "Boolean");
+		ACCESSORS.put(TypeKind.DOUBLE, "Double");
+		ACCESSORS.put(TypeKind.INT, "Int");
+		ACCESSORS.put(TypeKind.LONG, "Long");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+		for (TypeElement annotation : annotations)
+			for (Element element : round.getElementsAnnotatedWith(annotation))
+				if (element.getKind() == ElementKind.CLASS && this.eligible((TypeElement) element))
+					try {
+						this.write((TypeElement) element);
+					} catch (IOException e) {
+						this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "can't write the schema: " + e, element);
+					}
+
+		//the annotations may be processed by other processors too
+		return false;
+	}
+
+	/**
+	 * Get the annotation with the given name on the given element.
+	 *
+	 * @param element    to get the annotation from
+	 * @param annotation the name of the annotation
+	 * @return the values of the annotation (with the defaults) mapped to their names. Or null if the element isn't annotated with it
+	 */
+	private Map<String, Object> annotation(Element element, String annotation) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors())
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+				Map<String, Object> values = new HashMap<>();
+
+				this.processingEnv.getElementUtils()
+						.getElementValuesWithDefaults(mirror)
+						.forEach((key, value) -> values.put(key.getSimpleName().toString(), value.getValue()));
+
+				return values;
+			}
+
+		return null;
+	}
+
+	/**
+	 * Get the configurations of the given class. The configurations annotated to it or to the nearest superclass of it. (the annotation is
+	 * inherited)
+	 *
+	 * @param klass to get the configurations of
+	 * @return the values of the configurations of the given class mapped to their names
+	 */
+	private Map<String, Object> configurations(TypeElement klass) {
+		for (TypeElement type = klass; type != null; type = this.superclass(type)) {
+			Map<String, Object> configurations = this.annotation(type, CONFIGURATIONS);
+
+			if (configurations != null)
+				return configurations;
+		}
+
+		//unreachable. The classes are processed because they are annotated
+		return this.annotation(this.processingEnv.getElementUtils().getTypeElement(JSOBJECT), CONFIGURATIONS);
+	}
+
+	/**
+	 * Check if a schema can be generated for the given class.
+	 *
+	 * @param klass to be checked
+	 * @return whether a schema can be generated for the given class or not
+	 */
+	private boolean eligible(TypeElement klass) {
+		Set<Modifier> modifiers = klass.getModifiers();
+		TypeElement jsobject = this.processingEnv.getElementUtils().getTypeElement(JSOBJECT);
+		Types types = this.processingEnv.getTypeUtils();
+
+		return jsobject != null && types.isSubtype(types.erasure(klass.asType()), types.erasure(jsobject.asType())) &&
+			   !modifiers.contains(Modifier.ABSTRACT) && !modifiers.contains(Modifier.PRIVATE) &&
+			   (klass.getNestingKind() == NestingKind.TOP_LEVEL || klass.getNestingKind() == NestingKind.MEMBER);
+	}
+
+	/**
+	 * Get the public fields of the given type. Including the inherited ones. In the order {@link Class#getFields()} returns them. (the declared
+	 * fields. Then the fields of the interfaces. Then the fields of the superclass)
+	 *
+	 * @param type   to get the fields of
+	 * @param fields to add the fields to
+	 */
+	private void fields(TypeElement type, Set<VariableElement> fields) {
+		for (Element member : type.getEnclosedElements())
+			if (member.getKind() == ElementKind.FIELD && member.getModifiers().contains(Modifier.PUBLIC))
+				fields.add((VariableElement) member);
+		for (TypeMirror interfaze : type.getInterfaces())
+			this.fields((TypeElement) ((DeclaredType) interfaze).asElement(), fields);
+
+		TypeElement superclass = this.superclass(type);
+		if (superclass != null)
+			this.fields(superclass, fields);
+	}
+
+	/**
+	 * Get the source of a key.
+	 *
+	 * @param key the key (a string or an integer)
+	 * @return a java literal of the given key
+	 */
+	private static String literal(Object key) {
+		return key instanceof Integer ? key.toString() : SchemaProcessor.string((String) key);
+	}
+
+	/**
+	 * Get the source of a property that accesses the given field directly.
+	 *
+	 * @param klass     the JSObject class
+	 * @param field     the field
+	 * @param key       the key of the field
+	 * @param removable whether the field can be set to null when its entry get removed or not
+	 * @return the source of an anonymous property of the given field
+	 */
+	private String property(TypeElement klass, VariableElement field, Object key, boolean removable) {
+		Types types = this.processingEnv.getTypeUtils();
+		TypeMirror type = field.asType();
+		String name = klass.getQualifiedName().toString();
+		String simple = field.getSimpleName().toString();
+		String access = field.getModifiers().contains(Modifier.STATIC) ? name + "." + simple : "((" + name + ") o)." + simple;
+		String cast = type.getKind().isPrimitive() ?
+					  types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString() :
+					  types.erasure(type).toString();
+		StringBuilder builder = new StringBuilder();
+
+		builder.append("\t\t\t\tnew ").append(JSOBJECT).append(".Property(field(").append(name).append(".class, ").append(SchemaProcessor.string(simple)).append("), ")
+				.append(SchemaProcessor.literal(key)).append(", false, ").append(removable).append(") {\n")
+				.append("\t\t\t\t\t@Override\n")
+				.append("\t\t\t\t\tpublic Object get(Object o) {\n")
+				.append("\t\t\t\t\t\treturn ").append(access).append(";\n")
+				.append("\t\t\t\t\t}\n\n")
+				.append("\t\t\t\t\t@Override\n")
+				.append("\t\t\t\t\tpublic void set(Object o, Object v) {\n")
+				.append("\t\t\t\t\t\t").append(access).append(" = (").append(cast).append(") v;\n")
+				.append("\t\t\t\t\t}\n");
+
+		String accessor = ACCESSORS.get(type.getKind());
+		if (accessor != null)
+			builder.append("\n")
+					.append("\t\t\t\t\t@Override\n")
+					.append("\t\t\t\t\tpublic ").append(type).append(" get").append(accessor).append("(Object o) {\n")
+					.append("\t\t\t\t\t\treturn ").append(access).append(";\n")
+					.append("\t\t\t\t\t}\n\n")
+					.append("\t\t\t\t\t@Override\n")
+					.append("\t\t\t\t\tpublic void set").append(accessor).append("(Object o, ").append(type).append(" v) {\n")
+					.append("\t\t\t\t\t\t").append(access).append(" = v;\n")
+					.append("\t\t\t\t\t}\n");
+
+		return builder.append("\t\t\t\t},\n").toString();
+	}
+
+	/**
+	 * Quote the given string as a java string literal.
+	 *
+	 * @param string to be quoted
+	 * @return a java string literal of the given string
+	 */
+	private static String string(String string) {
+		StringBuilder builder = new StringBuilder("\"");
+
+		for (char point : string.toCharArray())
+			if (point == '"' || point == '\\')
+				builder.append('\\').append(point);
+			else if (point < 0x20 || point > 0x7E)
+				builder.append(String.format("\\u%04x", (int) point));
+			else builder.append(point);
+
+		return builder.append('"').toString();
+	}
+
+	/**
+	 * Get the superclass of the given type.
+	 *
+	 * @param type to get the superclass of
+	 * @return the superclass of the given type. Or null if it has none
+	 */
+	private TypeElement superclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+	}
+
+	/**
+	 * Write the schema of the given class.
+	 *
+	 * @param klass the class to write a schema for
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void write(TypeElement klass) throws IOException {
+		Elements elements = this.processingEnv.getElementUtils();
+		String pkg = elements.getPackageOf(klass).getQualifiedName().toString();
+		String binary = elements.getBinaryName(klass).toString();
+		String simple = (pkg.isEmpty() ? binary : binary.substring(pkg.length() + 1)) + "_Schema";
+		String name = klass.getQualifiedName().toString();
+
+		Map<String, Object> configurations = this.configurations(klass);
+		boolean overridable = (Boolean) configurations.get("overridableKeys");
+		boolean restricted = (Boolean) configurations.get("restricted");
+		boolean removable = restricted && (Boolean) configurations.get("removable");
+		String indexer = (String) configurations.get("indexer");
+
+		Set<VariableElement> fields = new LinkedHashSet<>();
+		this.fields(klass, fields);
+
+		//solved the same way JSObject.Property solves them
+		Set<Object> keys = new HashSet<>();
+		StringBuilder properties = new StringBuilder(), transients = new StringBuilder();
+		for (VariableElement field : fields) {
+			Map<String, Object> annotation = this.annotation(field, ENTRY_FIELD);
+			String simpleName = field.getSimpleName().toString();
+			boolean istransient = annotation != null ? (Boolean) annotation.get("istransient") : restricted || field.getModifiers().contains(Modifier.TRANSIENT);
+
+			if (istransient) {
+				if (overridable && annotation != null)
+					transients.append("\t\t\t\tproperty(").append(name).append(".class, ").append(SchemaProcessor.string(simpleName)).append("),\n");
+				continue;
+			}
+
+			Object key = simpleName;
+			if (overridable && annotation != null && !annotation.get("key").equals("")) {
+				key = annotation.get("key");
+			} else {
+				String[] split = simpleName.split(indexer);
+
+				if (split.length == 2)
+					try {
+						key = Integer.valueOf(split[1]);
+					} catch (NumberFormatException ignored) {
+					}
+			}
+
+			//a key is associated to the first field that have it
+			if (!keys.add(key))
+				continue;
+
+			if (field.getModifiers().contains(Modifier.FINAL))
+				properties.append("\t\t\t\tproperty(").append(name).append(".class, ").append(SchemaProcessor.string(simpleName)).append("),\n");
+			else properties.append(this.property(klass, field, key, annotation != null && (Boolean) annotation.get("removable") || removable));
+		}
+
+		try (Writer writer = this.processingEnv.getFiler().createSourceFile(pkg.isEmpty() ? simple : pkg + "." + simple, klass).openWriter()) {
+			if (!pkg.isEmpty())
+				writer.write("package " + pkg + ";\n\n");
+
+			writer.write("/**\n" +
+						 " * The schema of {@link " + name + "}. Generated by " + SchemaProcessor.class.getName() + ". (don't edit)\n" +
+						 " */\n" +
+						 "@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+						 "public final class " + simple + " extends " + JSOBJECT + ".Schema {\n" +
+						 "\t/**\n" +
+						 "\t * Initialize this.\n" +
+						 "\t */\n" +
+						 "\tpublic " + simple + "() {\n" +
+						 "\t\tsuper(" + name + ".class, new " + JSOBJECT + ".Property[]{\n" + properties +
+						 "\t\t}, new " + JSOBJECT + ".Property[]{\n" + transients +
+						 "\t\t});\n" +
+						 "\t}\n" +
+						 "}\n");
+		}
+	}
+}